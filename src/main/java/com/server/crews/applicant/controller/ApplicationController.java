@@ -1,41 +1,97 @@
 package com.server.crews.applicant.controller;
 
+import com.server.crews.applicant.service.ApplicationAdmissionLimiter;
+import com.server.crews.applicant.service.ApplicationExporter;
 import com.server.crews.applicant.service.ApplicationService;
+import com.server.crews.applicant.domain.Outcome;
+import com.server.crews.applicant.dto.request.ApplicationExportFormat;
+import com.server.crews.applicant.dto.request.ApplicationResponseType;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationSortType;
+import com.server.crews.applicant.dto.request.EvaluationPatchRequest;
 import com.server.crews.applicant.dto.request.EvaluationRequest;
+import com.server.crews.applicant.dto.response.ApplicationAckResponse;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
+import com.server.crews.applicant.dto.response.ApplicationsPage;
 import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import com.server.crews.applicant.dto.response.OutcomeCountResponse;
 import com.server.crews.auth.dto.LoginUser;
 import com.server.crews.auth.controller.AdminAuthentication;
 import com.server.crews.auth.controller.ApplicantAuthentication;
+import com.server.crews.global.idempotency.IdempotentExecutor;
+import com.server.crews.recruitment.domain.Recruitment;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(value = "/applications")
 @RequiredArgsConstructor
 public class ApplicationController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String RESPONSE_TYPE_HEADER = "X-Response-Type";
+
     private final ApplicationService applicationService;
+    private final ApplicationAdmissionLimiter applicationAdmissionLimiter;
+    private final ApplicationExporter applicationExporter;
+    private final IdempotentExecutor idempotentExecutor;
 
     /**
-     * 지원자가 지원서를 저장한다.
+     * 지원자가 지원서를 저장한다. 모집 공고별 동시 저장 요청이 많으면 429를 반환한다.
+     * submit 쿼리 파라미터가 true이면 최종 제출로 보고 필수 답변을 검증한다. 기본값은 작성 중인 지원서의 저장이다.
+     * response 쿼리 파라미터나 X-Response-Type 헤더가 ACK이면 지원서 id와 리비전만 반환한다.
+     * Idempotency-Key 헤더가 같은 재시도 요청에는 처음 저장한 결과를 다시 반환한다.
      */
     @PostMapping
-    public ResponseEntity<ApplicationDetailsResponse> saveApplication(
+    public ResponseEntity<?> saveApplication(
             @ApplicantAuthentication LoginUser loginUser,
+            @RequestParam(value = "submit", defaultValue = "false") boolean submitted,
+            @RequestParam(value = "response", required = false) ApplicationResponseType responseTypeParameter,
+            @RequestHeader(value = RESPONSE_TYPE_HEADER, required = false) ApplicationResponseType responseTypeHeader,
+            @RequestHeader(value = IdempotentExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody ApplicationSaveRequest request) {
+        ApplicationResponseType responseType = ApplicationResponseType.of(responseTypeParameter, responseTypeHeader);
+        String idempotencyScope = "application:" + responseType + ":" + submitted + ":" + loginUser.userId();
+        if (responseType == ApplicationResponseType.ACK) {
+            ApplicationAckResponse applicationAckResponse = idempotentExecutor.execute(idempotencyKey,
+                    idempotencyScope, request, ApplicationAckResponse.class,
+                    () -> applicationAdmissionLimiter.execute(request.recruitmentCode(),
+                            () -> applicationService.saveApplicationWithAck(loginUser.userId(), request, submitted)));
+            return ResponseEntity.ok(applicationAckResponse);
+        }
+        ApplicationDetailsResponse applicationDetailsResponse = idempotentExecutor.execute(idempotencyKey,
+                idempotencyScope, request, ApplicationDetailsResponse.class,
+                () -> applicationAdmissionLimiter.execute(request.recruitmentCode(),
+                        () -> applicationService.saveApplication(loginUser.userId(), request, submitted)));
         return ResponseEntity.status(HttpStatus.OK)
-                .body(applicationService.saveApplication(loginUser.userId(), request));
+                .body(applicationDetailsResponse);
+    }
+
+    /**
+     * 지원자가 작성 중인 지원서를 임시 저장한다. 임시 저장된 지원서는 주기적으로 반영된다.
+     */
+    @PostMapping("/drafts")
+    public ResponseEntity<Void> saveDraftApplication(
+            @ApplicantAuthentication LoginUser loginUser,
+            @RequestBody ApplicationSaveRequest request) {
+        applicationService.saveDraftApplication(loginUser.userId(), request);
+        return ResponseEntity.accepted().build();
     }
 
     /**
@@ -48,6 +104,16 @@ public class ApplicationController {
         return ResponseEntity.ok(applicationService.findApplicationDetails(applicationId, loginUser.userId()));
     }
 
+    /**
+     * 동아리 관리자가 여러 지원자의 지원서를 한 번에 조회한다. 요청한 id 순서대로 반환한다.
+     */
+    @GetMapping("/details")
+    public ResponseEntity<List<ApplicationDetailsResponse>> getAllApplicationDetails(
+            @AdminAuthentication LoginUser loginUser,
+            @RequestParam(value = "ids") List<Long> applicationIds) {
+        return ResponseEntity.ok(applicationService.findAllApplicationDetails(applicationIds, loginUser.userId()));
+    }
+
     /**
      * 지원자가 본인의 지원서를 조회한다.
      */
@@ -61,21 +127,63 @@ public class ApplicationController {
     }
 
     /**
-     * 한 공고의 모든 지원서 목록을 조회한다.
+     * 한 공고의 지원서 목록을 조회한다. 커서와 페이지 크기를 모두 보내지 않으면 전체 목록을 반환하고,
+     * 페이지 단위로 조회할 때 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 반환한다.
      */
     @GetMapping
     public ResponseEntity<List<ApplicationsResponse>> getAllApplicationsByPublisher(
-            @AdminAuthentication LoginUser loginUser) {
-        return ResponseEntity.ok(applicationService.findAllApplicationsByPublisher(loginUser.userId()));
+            @AdminAuthentication LoginUser loginUser,
+            @RequestParam(value = "outcome", required = false) Outcome outcome,
+            @RequestParam(value = "sort", defaultValue = "ID") ApplicationSortType sortType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ApplicationsPage applicationsPage = applicationService.findApplicationsByPublisher(loginUser.userId(),
+                outcome, sortType, cursor, size);
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (applicationsPage.hasNext()) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, applicationsPage.nextCursor());
+        }
+        return responseBuilder.body(applicationsPage.applications());
+    }
+
+    /**
+     * 한 공고의 모든 지원서를 답변과 함께 CSV 또는 JSON Lines 형식으로 내려받는다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @AdminAuthentication LoginUser loginUser,
+            @RequestParam(value = "format", defaultValue = "CSV") ApplicationExportFormat format) {
+        Recruitment recruitment = applicationExporter.findRecruitment(loginUser.userId());
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("applications." + format.getExtension())
+                .build();
+        StreamingResponseBody responseBody = outputStream -> applicationExporter.export(recruitment, format,
+                outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(responseBody);
     }
 
     /**
-     * 지원서 평가를 저장한다.
+     * 지원서 평가를 저장한다. Idempotency-Key 헤더가 같은 재시도 요청은 다시 저장하지 않는다.
      */
     @PostMapping("/evaluation")
-    public ResponseEntity<Void> evaluate(@AdminAuthentication LoginUser loginUser,
-                                         @RequestBody EvaluationRequest request) {
-        applicationService.decideOutcome(request, loginUser.userId());
+    public ResponseEntity<Void> evaluate(
+            @AdminAuthentication LoginUser loginUser,
+            @RequestHeader(value = IdempotentExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody EvaluationRequest request) {
+        idempotentExecutor.execute(idempotencyKey, "evaluation:" + loginUser.userId(), request,
+                () -> applicationService.decideOutcome(request, loginUser.userId()));
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 요청에 포함된 지원서의 평가만 변경하고, 변경 후 지원 결과별 지원서 수를 반환한다.
+     */
+    @PatchMapping("/evaluation")
+    public ResponseEntity<OutcomeCountResponse> patchEvaluation(@AdminAuthentication LoginUser loginUser,
+                                                                @RequestBody @Valid EvaluationPatchRequest request) {
+        return ResponseEntity.ok(applicationService.patchOutcomes(request, loginUser.userId()));
+    }
 }
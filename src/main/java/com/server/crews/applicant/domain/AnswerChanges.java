@@ -0,0 +1,73 @@
+package com.server.crews.applicant.domain;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public record AnswerChanges(
+        List<NarrativeAnswer> insertedNarrativeAnswers,
+        List<NarrativeAnswer> updatedNarrativeAnswers,
+        List<Long> deletedNarrativeAnswerIds,
+        List<SelectiveAnswer> insertedSelectiveAnswers,
+        List<Long> deletedSelectiveAnswerIds
+) {
+
+    /*
+    이전 답변과 id가 같은 답변은 기존 답변, id가 없는 답변은 새 답변이다.
+    내용이 같은 서술형 답변과 그대로 선택된 선택지는 변경에서 제외한다.
+     */
+    public static AnswerChanges between(@Nullable Application previousApplication, Application application) {
+        Collection<NarrativeAnswer> previousNarrativeAnswers =
+                previousApplication == null ? List.of() : previousApplication.getNarrativeAnswers();
+        Collection<SelectiveAnswer> previousSelectiveAnswers =
+                previousApplication == null ? List.of() : previousApplication.getSelectiveAnswers();
+        Map<Long, NarrativeAnswer> previousNarrativeAnswersById = previousNarrativeAnswers.stream()
+                .collect(toMap(NarrativeAnswer::getId, identity()));
+
+        List<NarrativeAnswer> insertedNarrativeAnswers = application.getNarrativeAnswers().stream()
+                .filter(narrativeAnswer -> narrativeAnswer.getId() == null)
+                .toList();
+        List<NarrativeAnswer> updatedNarrativeAnswers = application.getNarrativeAnswers().stream()
+                .filter(narrativeAnswer -> narrativeAnswer.getId() != null)
+                .filter(narrativeAnswer -> !narrativeAnswer.hasSameContent(
+                        previousNarrativeAnswersById.get(narrativeAnswer.getId())))
+                .toList();
+        List<Long> deletedNarrativeAnswerIds = deletedIds(previousNarrativeAnswers.stream()
+                .map(NarrativeAnswer::getId)
+                .toList(), application.getNarrativeAnswers().stream()
+                .map(NarrativeAnswer::getId)
+                .collect(toSet()));
+
+        List<SelectiveAnswer> insertedSelectiveAnswers = application.getSelectiveAnswers().stream()
+                .filter(selectiveAnswer -> selectiveAnswer.getId() == null)
+                .toList();
+        List<Long> deletedSelectiveAnswerIds = deletedIds(previousSelectiveAnswers.stream()
+                .map(SelectiveAnswer::getId)
+                .toList(), application.getSelectiveAnswers().stream()
+                .map(SelectiveAnswer::getId)
+                .collect(toSet()));
+
+        return new AnswerChanges(insertedNarrativeAnswers, updatedNarrativeAnswers, deletedNarrativeAnswerIds,
+                insertedSelectiveAnswers, deletedSelectiveAnswerIds);
+    }
+
+    private static List<Long> deletedIds(List<Long> previousIds, Set<Long> remainingIds) {
+        return previousIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !remainingIds.contains(id))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return insertedNarrativeAnswers.isEmpty() && updatedNarrativeAnswers.isEmpty()
+                && deletedNarrativeAnswerIds.isEmpty() && insertedSelectiveAnswers.isEmpty()
+                && deletedSelectiveAnswerIds.isEmpty();
+    }
+}
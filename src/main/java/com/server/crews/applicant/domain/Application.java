@@ -33,7 +33,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "application",
         indexes = {
                 @Index(columnList = "recruitment_id", name = "idx_recruitment_id"),
-                @Index(columnList = "applicant_id", name = "idx_applicant_id")
+                @Index(columnList = "applicant_id", name = "idx_applicant_id"),
+                @Index(columnList = "recruitment_id, name", name = "idx_recruitment_id_name"),
+                @Index(columnList = "recruitment_id, student_number", name = "idx_recruitment_id_student_number")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -59,6 +61,12 @@ public class Application {
     @Column(name = "name", nullable = false)
     private String name;
 
+    /*
+    저장할 때마다 갱신 쿼리로 1씩 증가한다. 변경 감지로 이전 값을 덮어쓰지 않도록 엔티티에서는 갱신하지 않는다.
+     */
+    @Column(name = "revision", nullable = false, updatable = false)
+    private long revision;
+
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<NarrativeAnswer> narrativeAnswers;
 
@@ -98,6 +106,20 @@ public class Application {
         this.selectiveAnswers = new HashSet<>(selectiveAnswers);
     }
 
+    public void updateApplicantInformation(String studentNumber, String major, String name) {
+        this.studentNumber = studentNumber;
+        this.major = major;
+        this.name = name;
+    }
+
+    public void setToOriginalId(Long id) {
+        this.id = id;
+    }
+
+    public void setToCurrentRevision(long revision) {
+        this.revision = revision;
+    }
+
     public Map<Long, NarrativeAnswer> getNarrativeAnswersByQuestionId() {
         return this.narrativeAnswers.stream()
                 .collect(toMap(NarrativeAnswer::getQuestionId, identity()));
@@ -116,6 +138,10 @@ public class Application {
         this.outcome = Outcome.FAIL;
     }
 
+    public void resetOutcome() {
+        this.outcome = Outcome.PENDING;
+    }
+
     public boolean isNotDetermined() {
         return outcome.equals(Outcome.PENDING);
     }
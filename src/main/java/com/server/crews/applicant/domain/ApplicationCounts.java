@@ -0,0 +1,18 @@
+package com.server.crews.applicant.domain;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.List;
+import java.util.Map;
+
+public record ApplicationCounts(long totalCount, long passCount, long failCount, long pendingCount) {
+
+    public static ApplicationCounts from(List<OutcomeCount> outcomeCounts) {
+        Map<Outcome, Long> countsByOutcome = outcomeCounts.stream()
+                .collect(toMap(OutcomeCount::outcome, OutcomeCount::count));
+        long passCount = countsByOutcome.getOrDefault(Outcome.PASS, 0L);
+        long failCount = countsByOutcome.getOrDefault(Outcome.FAIL, 0L);
+        long pendingCount = countsByOutcome.getOrDefault(Outcome.PENDING, 0L);
+        return new ApplicationCounts(passCount + failCount + pendingCount, passCount, failCount, pendingCount);
+    }
+}
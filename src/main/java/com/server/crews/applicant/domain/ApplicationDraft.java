@@ -0,0 +1,10 @@
+package com.server.crews.applicant.domain;
+
+import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
+
+/*
+    임시 저장한 시점의 지원서 리비전을 함께 저장해, 그 뒤에 저장된 지원서를 오래된 임시 저장으로 덮어쓰지 않도록 한다.
+    저장된 지원서가 없으면 리비전은 0이다.
+ */
+public record ApplicationDraft(ApplicationSaveRequest request, long baseRevision) {
+}
@@ -0,0 +1,18 @@
+package com.server.crews.applicant.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+    내보내기용으로 읽은 지원서와 답변이다. 서술형 답변은 문항 id별 내용, 선택형 답변은 문항 id별 선택지 id 목록이다.
+ */
+public record ExportedApplication(
+        Long id,
+        String studentNumber,
+        String major,
+        String name,
+        Outcome outcome,
+        Map<Long, String> narrativeAnswers,
+        Map<Long, List<Long>> choiceIdsByQuestionId
+) {
+}
@@ -58,6 +58,10 @@ public class NarrativeAnswer {
         this.id = id;
     }
 
+    public boolean hasSameContent(NarrativeAnswer other) {
+        return other != null && this.content.equals(other.getContent());
+    }
+
     public Long getQuestionId() {
         return this.narrativeQuestion.getId();
     }
@@ -0,0 +1,4 @@
+package com.server.crews.applicant.domain;
+
+public record OutcomeCount(Outcome outcome, Long count) {
+}
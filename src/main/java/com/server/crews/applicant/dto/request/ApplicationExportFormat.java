@@ -0,0 +1,14 @@
+package com.server.crews.applicant.dto.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ApplicationExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    JSON_LINES("application/x-ndjson;charset=UTF-8", "jsonl");
+
+    private final String contentType;
+    private final String extension;
+}
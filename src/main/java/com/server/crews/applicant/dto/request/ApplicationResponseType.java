@@ -0,0 +1,22 @@
+package com.server.crews.applicant.dto.request;
+
+import jakarta.annotation.Nullable;
+
+public enum ApplicationResponseType {
+    DETAILS,
+    ACK;
+
+    /*
+    쿼리 파라미터를 헤더보다 우선하며, 둘 다 없으면 지원서 상세 정보를 응답한다.
+     */
+    public static ApplicationResponseType of(@Nullable ApplicationResponseType parameter,
+                                             @Nullable ApplicationResponseType header) {
+        if (parameter != null) {
+            return parameter;
+        }
+        if (header != null) {
+            return header;
+        }
+        return DETAILS;
+    }
+}
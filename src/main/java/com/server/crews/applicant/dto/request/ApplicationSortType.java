@@ -0,0 +1,7 @@
+package com.server.crews.applicant.dto.request;
+
+public enum ApplicationSortType {
+    ID,
+    NAME,
+    STUDENT_NUMBER;
+}
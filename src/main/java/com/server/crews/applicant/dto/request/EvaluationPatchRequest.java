@@ -0,0 +1,12 @@
+package com.server.crews.applicant.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record EvaluationPatchRequest(
+        @Valid
+        @NotNull(message = "변경할 지원 결과 목록은 null일 수 없습니다.")
+        List<OutcomePatchRequest> outcomes
+) {
+}
@@ -0,0 +1,12 @@
+package com.server.crews.applicant.dto.request;
+
+import com.server.crews.applicant.domain.Outcome;
+import jakarta.validation.constraints.NotNull;
+
+public record OutcomePatchRequest(
+        @NotNull(message = "지원서 id는 null일 수 없습니다.")
+        Long applicationId,
+        @NotNull(message = "지원 결과는 null일 수 없습니다.")
+        Outcome outcome
+) {
+}
@@ -0,0 +1,4 @@
+package com.server.crews.applicant.dto.response;
+
+public record ApplicationAckResponse(Long id, long revision) {
+}
@@ -0,0 +1,14 @@
+package com.server.crews.applicant.dto.response;
+
+import com.server.crews.applicant.domain.Outcome;
+import java.util.List;
+
+public record ApplicationExportResponse(
+        Long id,
+        String studentNumber,
+        String major,
+        String name,
+        Outcome outcome,
+        List<SectionAnswerResponse> sections
+) {
+}
@@ -0,0 +1,10 @@
+package com.server.crews.applicant.dto.response;
+
+import java.util.List;
+
+public record ApplicationsPage(List<ApplicationsResponse> applications, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
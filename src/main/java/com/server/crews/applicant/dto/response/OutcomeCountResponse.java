@@ -0,0 +1,8 @@
+package com.server.crews.applicant.dto.response;
+
+public record OutcomeCountResponse(
+        long passCount,
+        long failCount,
+        long pendingCount
+) {
+}
@@ -0,0 +1,4 @@
+package com.server.crews.applicant.event;
+
+public record ApplicationCreatedEvent(Long recruitmentId) {
+}
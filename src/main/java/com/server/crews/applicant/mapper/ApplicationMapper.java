@@ -6,7 +6,6 @@ import com.server.crews.applicant.domain.SelectiveAnswer;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSectionSaveRequest;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
-import com.server.crews.applicant.dto.response.ApplicationsResponse;
 import com.server.crews.applicant.dto.response.SectionAnswerResponse;
 import com.server.crews.recruitment.domain.Recruitment;
 import com.server.crews.recruitment.domain.QuestionType;
@@ -26,16 +25,6 @@ public class ApplicationMapper {
                 .build();
     }
 
-    public static ApplicationsResponse applicationToApplicationsResponse(Application application) {
-        return ApplicationsResponse.builder()
-                .id(application.getId())
-                .studentNumber(application.getStudentNumber())
-                .name(application.getName())
-                .major(application.getMajor())
-                .outcome(application.getOutcome())
-                .build();
-    }
-
     public static Application applicationSaveRequestToApplication(ApplicationSaveRequest applicationSaveRequest,
                                                                   Recruitment recruitment, Long applicantId,
                                                                   List<NarrativeAnswer> narrativeAnswers,
@@ -0,0 +1,94 @@
+package com.server.crews.applicant.repository;
+
+import com.server.crews.applicant.domain.AnswerChanges;
+import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.applicant.domain.SelectiveAnswer;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    IDENTITY 전략을 사용하는 답변 엔티티는 Hibernate 배치 insert가 적용되지 않으므로, 답변 변경 사항을 JDBC 배치로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerJdbcRepository {
+    private static final String INSERT_NARRATIVE_ANSWER = """
+            insert into narrative_answer (application_id, narrative_question_id, content) values (?, ?, ?)
+            """;
+    private static final String UPDATE_NARRATIVE_ANSWER = """
+            update narrative_answer set content = ? where id = ?
+            """;
+    private static final String DELETE_NARRATIVE_ANSWER = """
+            delete from narrative_answer where id = ?
+            """;
+    private static final String INSERT_SELECTIVE_ANSWER = """
+            insert into selective_answer (application_id, selective_question_id, choice_id) values (?, ?, ?)
+            """;
+    private static final String DELETE_SELECTIVE_ANSWER = """
+            delete from selective_answer where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답변 변경 사항을 반영하고, 실행한 배치 statement 수를 반환한다.
+     */
+    public int saveChanges(Long applicationId, AnswerChanges answerChanges) {
+        int statementCount = 0;
+        statementCount += insertNarrativeAnswers(applicationId, answerChanges.insertedNarrativeAnswers());
+        statementCount += updateNarrativeAnswers(answerChanges.updatedNarrativeAnswers());
+        statementCount += deleteByIds(DELETE_NARRATIVE_ANSWER, answerChanges.deletedNarrativeAnswerIds());
+        statementCount += insertSelectiveAnswers(applicationId, answerChanges.insertedSelectiveAnswers());
+        statementCount += deleteByIds(DELETE_SELECTIVE_ANSWER, answerChanges.deletedSelectiveAnswerIds());
+        return statementCount;
+    }
+
+    private int insertNarrativeAnswers(Long applicationId, List<NarrativeAnswer> narrativeAnswers) {
+        if (narrativeAnswers.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_NARRATIVE_ANSWER, narrativeAnswers, narrativeAnswers.size(),
+                (preparedStatement, narrativeAnswer) -> {
+                    preparedStatement.setLong(1, applicationId);
+                    preparedStatement.setLong(2, narrativeAnswer.getQuestionId());
+                    preparedStatement.setString(3, narrativeAnswer.getContent());
+                });
+        return 1;
+    }
+
+    private int updateNarrativeAnswers(List<NarrativeAnswer> narrativeAnswers) {
+        if (narrativeAnswers.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_NARRATIVE_ANSWER, narrativeAnswers, narrativeAnswers.size(),
+                (preparedStatement, narrativeAnswer) -> {
+                    preparedStatement.setString(1, narrativeAnswer.getContent());
+                    preparedStatement.setLong(2, narrativeAnswer.getId());
+                });
+        return 1;
+    }
+
+    private int insertSelectiveAnswers(Long applicationId, List<SelectiveAnswer> selectiveAnswers) {
+        if (selectiveAnswers.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SELECTIVE_ANSWER, selectiveAnswers, selectiveAnswers.size(),
+                (preparedStatement, selectiveAnswer) -> {
+                    preparedStatement.setLong(1, applicationId);
+                    preparedStatement.setLong(2, selectiveAnswer.getQuestionId());
+                    preparedStatement.setLong(3, selectiveAnswer.getChoiceId());
+                });
+        return 1;
+    }
+
+    private int deleteByIds(String sql, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(sql, ids, ids.size(),
+                (preparedStatement, id) -> preparedStatement.setLong(1, id));
+        return 1;
+    }
+}
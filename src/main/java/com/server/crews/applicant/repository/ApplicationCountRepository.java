@@ -0,0 +1,96 @@
+package com.server.crews.applicant.repository;
+
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.domain.Outcome;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    모집 공고별 지원서 수를 Redis hash에 전체 수와 지원 결과별 수로 저장한다.
+    카운터가 없는 모집 공고는 증가시키지 않아, 일부 지원서만 집계된 카운터가 생기지 않도록 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationCountRepository {
+    private static final String COUNT_KEY_PREFIX = "application_count:";
+    private static final String COUNTED_RECRUITMENTS_KEY = "application_count_recruitments";
+    private static final String TOTAL_FIELD = "TOTAL";
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('hincrby', KEYS[1], ARGV[1], 1)
+            redis.call('hincrby', KEYS[1], ARGV[2], 1)
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<ApplicationCounts> findByRecruitmentId(Long recruitmentId) {
+        Map<String, String> counts = hashOperations().entries(countKey(recruitmentId));
+        if (counts.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ApplicationCounts(
+                countOf(counts, TOTAL_FIELD),
+                countOf(counts, Outcome.PASS.name()),
+                countOf(counts, Outcome.FAIL.name()),
+                countOf(counts, Outcome.PENDING.name())));
+    }
+
+    public void save(Long recruitmentId, ApplicationCounts applicationCounts) {
+        hashOperations().putAll(countKey(recruitmentId), Map.of(
+                TOTAL_FIELD, String.valueOf(applicationCounts.totalCount()),
+                Outcome.PASS.name(), String.valueOf(applicationCounts.passCount()),
+                Outcome.FAIL.name(), String.valueOf(applicationCounts.failCount()),
+                Outcome.PENDING.name(), String.valueOf(applicationCounts.pendingCount())));
+        redisTemplate.opsForSet().add(COUNTED_RECRUITMENTS_KEY, String.valueOf(recruitmentId));
+    }
+
+    /**
+     * 카운터가 있을 때만 전체 수와 지원 결과별 수를 하나씩 증가시키고, 증가시켰는지 여부를 반환한다.
+     */
+    public boolean incrementIfPresent(Long recruitmentId, Outcome outcome) {
+        Long incremented = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(countKey(recruitmentId)), TOTAL_FIELD,
+                outcome.name());
+        return Long.valueOf(1).equals(incremented);
+    }
+
+    public void deleteByRecruitmentId(Long recruitmentId) {
+        redisTemplate.delete(countKey(recruitmentId));
+    }
+
+    public Set<Long> findAllRecruitmentIds() {
+        Set<String> recruitmentIds = redisTemplate.opsForSet().members(COUNTED_RECRUITMENTS_KEY);
+        if (recruitmentIds == null) {
+            return Set.of();
+        }
+        return recruitmentIds.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    public void removeRecruitmentId(Long recruitmentId) {
+        redisTemplate.opsForSet().remove(COUNTED_RECRUITMENTS_KEY, String.valueOf(recruitmentId));
+    }
+
+    private long countOf(Map<String, String> counts, String field) {
+        return Long.parseLong(counts.getOrDefault(field, "0"));
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String countKey(Long recruitmentId) {
+        return COUNT_KEY_PREFIX + recruitmentId;
+    }
+}
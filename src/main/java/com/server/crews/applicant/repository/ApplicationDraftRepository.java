@@ -0,0 +1,206 @@
+package com.server.crews.applicant.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.applicant.domain.ApplicationDraft;
+import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    작성 중인 지원서를 모집 공고 코드별 Redis hash에 지원자 id를 필드로 하여 저장한다.
+    같은 지원자의 임시 저장은 덮어쓰므로 반영 시점에는 가장 최근 지원서만 남는다.
+    반영 중인 지원서는 별도의 flushing hash로 옮겨, 반영 중에 들어온 임시 저장과 섞이지 않도록 한다.
+    flushing hash의 지원서는 반영이 커밋된 뒤에만 제거하므로, 반영 중에 서버가 종료되어도 다음 반영 때 다시 반영된다.
+    반영할 수 없는 지원서는 삭제하지 않고 dead letter hash로 옮겨 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationDraftRepository {
+    private static final String DRAFT_KEY_PREFIX = "application_draft:";
+    private static final String FLUSHING_KEY_SUFFIX = ":flushing";
+    private static final String DEAD_LETTER_KEY_SUFFIX = ":dead_letter";
+    private static final String DRAFT_CODES_KEY = "application_draft_codes";
+
+    private static final RedisScript<List> MOVE_TO_FLUSHING = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                if redis.call('exists', KEYS[2]) == 0 then
+                    redis.call('rename', KEYS[1], KEYS[2])
+                else
+                    local drafts = redis.call('hgetall', KEYS[1])
+                    for index = 1, #drafts, 2 do
+                        redis.call('hset', KEYS[2], drafts[index], drafts[index + 1])
+                    end
+                    redis.call('del', KEYS[1])
+                end
+            end
+            return redis.call('hgetall', KEYS[2])
+            """, List.class);
+    private static final RedisScript<Long> REMOVE_IF_UNCHANGED = RedisScript.of("""
+            if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then
+                return redis.call('hdel', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> MOVE_TO_DEAD_LETTER_IF_UNCHANGED = RedisScript.of("""
+            if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then
+                redis.call('hset', KEYS[2], ARGV[1], ARGV[2])
+                return redis.call('hdel', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> REMOVE_CODE_IF_FLUSHED = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 0 and redis.call('exists', KEYS[2]) == 0 then
+                return redis.call('srem', KEYS[3], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void save(Long applicantId, ApplicationDraft draft) {
+        String recruitmentCode = draft.request().recruitmentCode();
+        hashOperations().put(draftKey(recruitmentCode), String.valueOf(applicantId), serialize(draft));
+        redisTemplate.opsForSet().add(DRAFT_CODES_KEY, recruitmentCode);
+    }
+
+    public Optional<ApplicationSaveRequest> findByApplicantIdAndRecruitmentCode(Long applicantId,
+                                                                                String recruitmentCode) {
+        String applicantKey = String.valueOf(applicantId);
+        String draft = hashOperations().get(draftKey(recruitmentCode), applicantKey);
+        if (draft == null) {
+            draft = hashOperations().get(flushingKey(recruitmentCode), applicantKey);
+        }
+        return Optional.ofNullable(draft)
+                .map(this::deserialize)
+                .map(ApplicationDraft::request);
+    }
+
+    public void deleteByApplicantIdAndRecruitmentCode(Long applicantId, String recruitmentCode) {
+        String applicantKey = String.valueOf(applicantId);
+        hashOperations().delete(draftKey(recruitmentCode), applicantKey);
+        hashOperations().delete(flushingKey(recruitmentCode), applicantKey);
+    }
+
+    public Set<String> findAllRecruitmentCodes() {
+        Set<String> recruitmentCodes = redisTemplate.opsForSet().members(DRAFT_CODES_KEY);
+        return recruitmentCodes == null ? Set.of() : recruitmentCodes;
+    }
+
+    /**
+     * 모집 공고의 임시 저장 지원서를 flushing hash로 옮기고, 옮겨진 지원서를 지원자 id별로 반환한다.
+     * 이전 반영 작업이 남긴 flushing hash가 있으면 더 최근의 임시 저장으로 덮어써 합친다.
+     */
+    public Map<Long, ApplicationDraft> startFlushing(String recruitmentCode) {
+        List<String> entries = redisTemplate.execute(MOVE_TO_FLUSHING,
+                List.of(draftKey(recruitmentCode), flushingKey(recruitmentCode)));
+        Map<Long, ApplicationDraft> drafts = new HashMap<>();
+        for (int index = 0; entries != null && index + 1 < entries.size(); index += 2) {
+            drafts.put(Long.valueOf(entries.get(index)), deserialize(entries.get(index + 1)));
+        }
+        return drafts;
+    }
+
+    /**
+     * 임시 저장 지원서와 flushing hash가 모두 비었을 때만 반영할 모집 공고 코드에서 제거한다.
+     * 반영 중에 서버가 종료되어 flushing hash가 남으면 코드가 남아 있으므로 다음 반영 때 이어서 반영한다.
+     */
+    public void finishFlushing(String recruitmentCode) {
+        redisTemplate.execute(REMOVE_CODE_IF_FLUSHED,
+                List.of(draftKey(recruitmentCode), flushingKey(recruitmentCode), DRAFT_CODES_KEY), recruitmentCode);
+    }
+
+    /**
+     * 반영할 모집 공고 코드에서 빠진 채 남은 flushing hash의 코드를 다시 추가하고, 추가한 코드 수를 반환한다.
+     */
+    public int recoverStaleFlushing() {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(DRAFT_KEY_PREFIX + "*" + FLUSHING_KEY_SUFFIX)
+                .build();
+        List<String> recruitmentCodes = new ArrayList<>();
+        try (Cursor<String> keys = redisTemplate.scan(scanOptions)) {
+            keys.forEachRemaining(key -> recruitmentCodes.add(key.substring(DRAFT_KEY_PREFIX.length(),
+                    key.length() - FLUSHING_KEY_SUFFIX.length())));
+        }
+        if (recruitmentCodes.isEmpty()) {
+            return 0;
+        }
+        Long addedCount = redisTemplate.opsForSet().add(DRAFT_CODES_KEY, recruitmentCodes.toArray(String[]::new));
+        return addedCount == null ? 0 : addedCount.intValue();
+    }
+
+    /**
+     * 반영할 지원서를 flushing hash에서 조회한다. 제출로 삭제되었거나 이미 반영되었다면 빈 값을 반환한다.
+     */
+    public Optional<ApplicationDraft> findFlushing(String recruitmentCode, Long applicantId) {
+        return Optional.ofNullable(hashOperations().get(flushingKey(recruitmentCode), String.valueOf(applicantId)))
+                .map(this::deserialize);
+    }
+
+    /**
+     * 반영이 끝난 지원서를 flushing hash에서 제거한다. 그 사이 더 최근의 임시 저장으로 덮어써졌다면 남겨 둔다.
+     */
+    public void removeFlushed(Long applicantId, ApplicationDraft draft) {
+        redisTemplate.execute(REMOVE_IF_UNCHANGED, List.of(flushingKey(draft.request().recruitmentCode())),
+                String.valueOf(applicantId), serialize(draft));
+    }
+
+    /**
+     * 반영할 수 없는 지원서를 flushing hash에서 dead letter hash로 옮긴다.
+     */
+    public void moveToDeadLetter(Long applicantId, ApplicationDraft draft) {
+        String recruitmentCode = draft.request().recruitmentCode();
+        redisTemplate.execute(MOVE_TO_DEAD_LETTER_IF_UNCHANGED,
+                List.of(flushingKey(recruitmentCode), deadLetterKey(recruitmentCode)),
+                String.valueOf(applicantId), serialize(draft));
+    }
+
+    public Optional<ApplicationDraft> findDeadLetter(Long applicantId, String recruitmentCode) {
+        return Optional.ofNullable(hashOperations().get(deadLetterKey(recruitmentCode), String.valueOf(applicantId)))
+                .map(this::deserialize);
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String draftKey(String recruitmentCode) {
+        return DRAFT_KEY_PREFIX + recruitmentCode;
+    }
+
+    private String flushingKey(String recruitmentCode) {
+        return DRAFT_KEY_PREFIX + recruitmentCode + FLUSHING_KEY_SUFFIX;
+    }
+
+    private String deadLetterKey(String recruitmentCode) {
+        return DRAFT_KEY_PREFIX + recruitmentCode + DEAD_LETTER_KEY_SUFFIX;
+    }
+
+    private String serialize(ApplicationDraft draft) {
+        try {
+            return objectMapper.writeValueAsString(draft);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("임시 저장 지원서를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private ApplicationDraft deserialize(String draft) {
+        try {
+            return objectMapper.readValue(draft, ApplicationDraft.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장 지원서를 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.server.crews.applicant.repository;
+
+import com.server.crews.applicant.domain.ExportedApplication;
+import com.server.crews.applicant.domain.Outcome;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/*
+    지원서, 서술형 답변, 선택형 답변을 지원서 id 순으로 이어 붙인 하나의 결과를 지원서 id 구간 단위로 읽는다.
+    마지막으로 읽은 지원서 id 다음부터 page-size개씩 keyset으로 나누어 조회하므로,
+    다운로드가 느려도 DB 커넥션은 한 구간을 조회하는 동안에만 점유한다.
+ */
+@Repository
+public class ApplicationExportRepository {
+    private static final String SELECT_APPLICATIONS_WITH_ANSWERS = """
+            select a.id as application_id, 0 as row_type, null as question_id, null as choice_id,
+                a.student_number, a.major, a.name, a.outcome, null as content
+            from application a
+            where a.recruitment_id = ? and a.id > ? and a.id <= ?
+            union all
+            select na.application_id, 1, na.narrative_question_id, null, null, null, null, null, na.content
+            from narrative_answer na
+            join application a on a.id = na.application_id
+            where a.recruitment_id = ? and a.id > ? and a.id <= ?
+            union all
+            select sa.application_id, 2, sa.selective_question_id, sa.choice_id, null, null, null, null, null
+            from selective_answer sa
+            join application a on a.id = sa.application_id
+            where a.recruitment_id = ? and a.id > ? and a.id <= ?
+            order by application_id, row_type, question_id, choice_id
+            """;
+    private static final String SELECT_PAGE_LAST_ID = """
+            select max(page.id)
+            from (select a.id from application a where a.recruitment_id = ? and a.id > ? order by a.id limit ?) page
+            """;
+    private static final int APPLICATION_ROW = 0;
+    private static final int NARRATIVE_ANSWER_ROW = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int pageSize;
+
+    public ApplicationExportRepository(JdbcTemplate jdbcTemplate,
+                                       @Value("${application.export.page-size:500}") int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 모집 공고의 지원서를 id 순으로 한 구간씩 조회해 한 건씩 전달한다. 전달하는 동안에는 DB 커넥션을 점유하지 않는다.
+     */
+    public void streamAllByRecruitmentId(Long recruitmentId, Consumer<ExportedApplication> consumer) {
+        long lastId = 0L;
+        Long pageLastId;
+        while ((pageLastId = findPageLastId(recruitmentId, lastId)) != null) {
+            findAllByRecruitmentIdBetween(recruitmentId, lastId, pageLastId).forEach(consumer);
+            lastId = pageLastId;
+        }
+    }
+
+    private Long findPageLastId(Long recruitmentId, long lastId) {
+        return jdbcTemplate.queryForObject(SELECT_PAGE_LAST_ID, Long.class, recruitmentId, lastId, pageSize);
+    }
+
+    private List<ExportedApplication> findAllByRecruitmentIdBetween(Long recruitmentId, long lastId,
+                                                                    long pageLastId) {
+        List<ExportedApplication> applications = new ArrayList<>();
+        ExportedApplicationCollector collector = new ExportedApplicationCollector(applications::add);
+        jdbcTemplate.query(SELECT_APPLICATIONS_WITH_ANSWERS, collector, recruitmentId, lastId, pageLastId,
+                recruitmentId, lastId, pageLastId, recruitmentId, lastId, pageLastId);
+        collector.flush();
+        return applications;
+    }
+
+    private static class ExportedApplicationCollector implements RowCallbackHandler {
+        private final Consumer<ExportedApplication> consumer;
+        private ExportedApplication current;
+
+        ExportedApplicationCollector(Consumer<ExportedApplication> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            int rowType = resultSet.getInt("row_type");
+            if (rowType == APPLICATION_ROW) {
+                flush();
+                current = new ExportedApplication(
+                        resultSet.getLong("application_id"),
+                        resultSet.getString("student_number"),
+                        resultSet.getString("major"),
+                        resultSet.getString("name"),
+                        Outcome.values()[resultSet.getInt("outcome")],
+                        new HashMap<>(),
+                        new HashMap<>());
+                return;
+            }
+
+            long questionId = resultSet.getLong("question_id");
+            if (rowType == NARRATIVE_ANSWER_ROW) {
+                current.narrativeAnswers().put(questionId, resultSet.getString("content"));
+                return;
+            }
+            current.choiceIdsByQuestionId()
+                    .computeIfAbsent(questionId, key -> new ArrayList<>())
+                    .add(resultSet.getLong("choice_id"));
+        }
+
+        void flush() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
+}
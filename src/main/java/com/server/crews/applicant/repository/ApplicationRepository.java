@@ -1,28 +1,62 @@
 package com.server.crews.applicant.repository;
 
 import com.server.crews.applicant.domain.Application;
-import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.applicant.domain.Outcome;
+import com.server.crews.applicant.domain.OutcomeCount;
+import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     @Query("""
-            select count(application) from Application application
-            join application.recruitment recruitment
-            where recruitment = :recruitment
+            select new com.server.crews.applicant.domain.OutcomeCount(a.outcome, count(a))
+            from Application a
+            where a.recruitment.id = :recruitmentId
+            group by a.outcome
             """)
-    int countAllByRecruitment(@Param("recruitment") Recruitment recruitment);
+    List<OutcomeCount> countAllByRecruitmentIdGroupByOutcome(@Param("recruitmentId") Long recruitmentId);
 
+    @Modifying(flushAutomatically = true)
     @Query("""
-            select application from Application application
-            join fetch application.applicant
-            where application.recruitment = :recruitment
+            update Application a set a.outcome = :outcome
+            where a.recruitment.id = :recruitmentId and a.id in :ids
             """)
-    List<Application> findAllByRecruitmentWithApplicant(@Param("recruitment") Recruitment recruitment);
+    int updateOutcomeByRecruitmentIdAndIdIn(@Param("recruitmentId") Long recruitmentId,
+                                            @Param("ids") Collection<Long> ids,
+                                            @Param("outcome") Outcome outcome);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Application a set a.outcome = :outcome
+            where a.recruitment.id = :recruitmentId and a.id not in :ids
+            """)
+    int updateOutcomeByRecruitmentIdAndIdNotIn(@Param("recruitmentId") Long recruitmentId,
+                                               @Param("ids") Collection<Long> ids,
+                                               @Param("outcome") Outcome outcome);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Application a set a.outcome = :outcome
+            where a.recruitment.id = :recruitmentId
+            """)
+    int updateOutcomeByRecruitmentId(@Param("recruitmentId") Long recruitmentId, @Param("outcome") Outcome outcome);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Application a set a.outcome = :outcome
+            where a.recruitment.id = :recruitmentId and a.outcome = :currentOutcome
+            """)
+    int updateOutcomeByRecruitmentIdAndOutcome(@Param("recruitmentId") Long recruitmentId,
+                                               @Param("currentOutcome") Outcome currentOutcome,
+                                               @Param("outcome") Outcome outcome);
 
     @Query("""
             select a from Application a
@@ -32,6 +66,13 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             """)
     Optional<Application> findByIdWithRecruitmentAndPublisher(@Param("id") Long id);
 
+    @Query("""
+            select a from Application a
+            where a.id in :ids and a.recruitment.id = :recruitmentId
+            """)
+    List<Application> findAllByIdInAndRecruitmentId(@Param("ids") Collection<Long> ids,
+                                                    @Param("recruitmentId") Long recruitmentId);
+
     @Query("""
             select a from Application a
             join fetch a.recruitment r
@@ -40,14 +81,79 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Optional<Application> findByApplicantIdAndRecruitmentCode(@Param("applicantId") Long applicantId,
                                                               @Param("recruitmentCode") String recruitmentCode);
 
+    @Query("""
+            select new com.server.crews.applicant.dto.response.ApplicationsResponse(
+                a.id, a.studentNumber, a.name, a.major, a.outcome)
+            from Application a
+            where a.recruitment.publisher.id = :publisherId
+            and (:outcome is null or a.outcome = :outcome)
+            and (:cursorId is null or a.id > :cursorId)
+            order by a.id
+            """)
+    List<ApplicationsResponse> findPageOrderById(@Param("publisherId") Long publisherId,
+                                                 @Param("outcome") Outcome outcome,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query("""
+            select new com.server.crews.applicant.dto.response.ApplicationsResponse(
+                a.id, a.studentNumber, a.name, a.major, a.outcome)
+            from Application a
+            where a.recruitment.publisher.id = :publisherId
+            and (:outcome is null or a.outcome = :outcome)
+            and (:cursorId is null or a.name > :cursorName or (a.name = :cursorName and a.id > :cursorId))
+            order by a.name, a.id
+            """)
+    List<ApplicationsResponse> findPageOrderByName(@Param("publisherId") Long publisherId,
+                                                   @Param("outcome") Outcome outcome,
+                                                   @Param("cursorId") Long cursorId,
+                                                   @Param("cursorName") String cursorName,
+                                                   Pageable pageable);
+
+    @Query("""
+            select new com.server.crews.applicant.dto.response.ApplicationsResponse(
+                a.id, a.studentNumber, a.name, a.major, a.outcome)
+            from Application a
+            where a.recruitment.publisher.id = :publisherId
+            and (:outcome is null or a.outcome = :outcome)
+            and (:cursorId is null or a.studentNumber > :cursorStudentNumber
+                or (a.studentNumber = :cursorStudentNumber and a.id > :cursorId))
+            order by a.studentNumber, a.id
+            """)
+    List<ApplicationsResponse> findPageOrderByStudentNumber(@Param("publisherId") Long publisherId,
+                                                            @Param("outcome") Outcome outcome,
+                                                            @Param("cursorId") Long cursorId,
+                                                            @Param("cursorStudentNumber") String cursorStudentNumber,
+                                                            Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Application a set a.revision = a.revision + 1
+            where a.id = :id
+            """)
+    int increaseRevisionById(@Param("id") Long id);
+
+    @Query("""
+            select a.revision from Application a
+            where a.id = :id
+            """)
+    long findRevisionById(@Param("id") Long id);
+
+    @Query("""
+            select a.revision from Application a
+            where a.applicant.id = :applicantId and a.recruitment.id = :recruitmentId
+            """)
+    Optional<Long> findRevisionByApplicantIdAndRecruitmentId(@Param("applicantId") Long applicantId,
+                                                             @Param("recruitmentId") Long recruitmentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
             select a from Application a
-            join fetch a.recruitment r
-            where r.publisher.id = :publisherId
+            where a.applicant.id = :applicantId and a.recruitment.id = :recruitmentId
             """)
-    List<Application> findAllWithRecruitmentByPublisherId(@Param("publisherId") Long publisherId);
+    Optional<Application> findForUpdateByApplicantIdAndRecruitmentId(@Param("applicantId") Long applicantId,
+                                                                     @Param("recruitmentId") Long recruitmentId);
 
-    @EntityGraph(attributePaths = {"narrativeAnswers", "selectiveAnswers"})
     @Query("""
             select a from Application a
             where a.applicant.id = :applicantId and a.recruitment.id = :recruitmentId
@@ -2,9 +2,12 @@ package com.server.crews.applicant.repository;
 
 import com.server.crews.applicant.domain.Application;
 import com.server.crews.applicant.domain.NarrativeAnswer;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface NarrativeAnswerRepository extends JpaRepository<NarrativeAnswer, Long> {
     List<NarrativeAnswer> findAllByApplication(Application application);
+
+    List<NarrativeAnswer> findAllByApplicationIdIn(Collection<Long> applicationIds);
 }
@@ -0,0 +1,138 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.applicant.domain.SelectiveAnswer;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    지원서 양식의 문항 제약 조건을 문항 순서대로 배열에 펼쳐 두고, 제출된 답변을 한 번씩만 순회하며 검증한다.
+    선택지마다 속한 선택형 문항의 위치를 저장해 두어, 다른 문항의 선택지를 제출하면 예외가 발생한다.
+    지원서 양식에 없는 문항의 답변은 검증하지 않고 저장할 때 제외한다.
+    작성 중인 지원서는 글자수, 선택지, 최대 선택 개수만 검증하고, 필수 답변과 최소 선택 개수는 제출할 때만 검증한다.
+ */
+public class AnswerValidationPlan {
+    private final long[] narrativeQuestionIds;
+    private final Map<Long, Integer> narrativeIndexesByQuestionId;
+    private final boolean[] narrativeNecessities;
+    private final int[] wordLimits;
+    private final long[] selectiveQuestionIds;
+    private final Map<Long, Integer> selectiveIndexesByQuestionId;
+    private final boolean[] selectiveNecessities;
+    private final int[] minimumSelections;
+    private final int[] maximumSelections;
+    private final Map<Long, Integer> selectiveIndexesByChoiceId;
+
+    private AnswerValidationPlan(List<NarrativeQuestion> narrativeQuestions,
+                                 List<SelectiveQuestion> selectiveQuestions) {
+        int narrativeCount = narrativeQuestions.size();
+        this.narrativeQuestionIds = new long[narrativeCount];
+        this.narrativeIndexesByQuestionId = new HashMap<>();
+        this.narrativeNecessities = new boolean[narrativeCount];
+        this.wordLimits = new int[narrativeCount];
+        for (int index = 0; index < narrativeCount; index++) {
+            NarrativeQuestion question = narrativeQuestions.get(index);
+            narrativeQuestionIds[index] = question.getId();
+            narrativeIndexesByQuestionId.put(question.getId(), index);
+            narrativeNecessities[index] = question.isNecessary();
+            wordLimits[index] = question.getWordLimit();
+        }
+
+        int selectiveCount = selectiveQuestions.size();
+        this.selectiveQuestionIds = new long[selectiveCount];
+        this.selectiveIndexesByQuestionId = new HashMap<>();
+        this.selectiveNecessities = new boolean[selectiveCount];
+        this.minimumSelections = new int[selectiveCount];
+        this.maximumSelections = new int[selectiveCount];
+        this.selectiveIndexesByChoiceId = new HashMap<>();
+        for (int index = 0; index < selectiveCount; index++) {
+            SelectiveQuestion question = selectiveQuestions.get(index);
+            selectiveQuestionIds[index] = question.getId();
+            selectiveIndexesByQuestionId.put(question.getId(), index);
+            selectiveNecessities[index] = question.isNecessary();
+            minimumSelections[index] = question.getMinimumSelection();
+            maximumSelections[index] = question.getMaximumSelection();
+            for (Choice choice : question.getChoices()) {
+                selectiveIndexesByChoiceId.put(choice.getId(), index);
+            }
+        }
+    }
+
+    public static AnswerValidationPlan compile(Recruitment recruitment) {
+        return new AnswerValidationPlan(recruitment.getNarrativeQuestion(), recruitment.getSelectiveQuestions());
+    }
+
+    public void validate(List<NarrativeAnswer> narrativeAnswers, List<SelectiveAnswer> selectiveAnswers,
+                         boolean submitted) {
+        boolean[] answeredNarratives = new boolean[narrativeQuestionIds.length];
+        for (NarrativeAnswer answer : narrativeAnswers) {
+            Integer index = narrativeIndexesByQuestionId.get(answer.getQuestionId());
+            if (index == null) {
+                continue;
+            }
+            if (answer.getContent().length() > wordLimits[index]) {
+                throw new CrewsException(CrewsErrorCode.EXCEED_WORD_LIMIT_ANSWER);
+            }
+            answeredNarratives[index] = true;
+        }
+
+        int[] selectionCounts = new int[selectiveQuestionIds.length];
+        for (SelectiveAnswer answer : selectiveAnswers) {
+            Integer index = selectiveIndexesByQuestionId.get(answer.getQuestionId());
+            if (index == null) {
+                continue;
+            }
+            if (!index.equals(selectiveIndexesByChoiceId.get(answer.getChoiceId()))) {
+                throw new CrewsException(CrewsErrorCode.CHOICE_NOT_IN_QUESTION);
+            }
+            selectionCounts[index]++;
+        }
+
+        for (int index = 0; index < selectiveQuestionIds.length; index++) {
+            if (selectionCounts[index] > maximumSelections[index]) {
+                throw new CrewsException(CrewsErrorCode.SELECTION_COUNT_OUT_OF_RANGE);
+            }
+        }
+        if (submitted) {
+            validateCompletion(answeredNarratives, selectionCounts);
+        }
+    }
+
+    private void validateCompletion(boolean[] answeredNarratives, int[] selectionCounts) {
+        for (int index = 0; index < narrativeQuestionIds.length; index++) {
+            if (narrativeNecessities[index] && !answeredNarratives[index]) {
+                throw new CrewsException(CrewsErrorCode.ANSWER_REQUIRED);
+            }
+        }
+        for (int index = 0; index < selectiveQuestionIds.length; index++) {
+            validateMinimumSelection(index, selectionCounts[index]);
+        }
+    }
+
+    private void validateMinimumSelection(int index, int selectionCount) {
+        if (selectionCount == 0) {
+            if (selectiveNecessities[index]) {
+                throw new CrewsException(CrewsErrorCode.ANSWER_REQUIRED);
+            }
+            return;
+        }
+        if (selectionCount < minimumSelections[index]) {
+            throw new CrewsException(CrewsErrorCode.SELECTION_COUNT_OUT_OF_RANGE);
+        }
+    }
+
+    long[] narrativeQuestionIds() {
+        return narrativeQuestionIds;
+    }
+
+    long[] selectiveQuestionIds() {
+        return selectiveQuestionIds;
+    }
+}
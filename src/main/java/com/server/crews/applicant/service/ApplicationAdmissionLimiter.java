@@ -0,0 +1,140 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.TooManyRequestsException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    모집 공고별로 동시에 처리하는 지원서 저장 요청 수를 제한한다.
+    제한을 넘은 요청은 도착 순서대로 대기하며, 대기열이 가득 찼거나 대기 시간을 넘기면 429로 거절한다.
+    트랜잭션 밖에서 대기하므로 대기 중인 요청은 DB 커넥션을 점유하지 않는다.
+    모집 공고 코드 단위로 제한하며, 대기열은 참조 중인 요청 수를 세어 마지막 요청이 끝날 때 compute 안에서 제거하므로
+    존재하지 않는 코드로 요청해도 대기열이 남지 않는다.
+ */
+@Component
+public class ApplicationAdmissionLimiter {
+    private static final CustomLogger customLogger = new CustomLogger(ApplicationAdmissionLimiter.class);
+
+    private final int concurrencyLimit;
+    private final int queueCapacity;
+    private final long maximumWaitInMilliseconds;
+    private final long retryAfterSeconds;
+    private final ConcurrentMap<String, RecruitmentAdmission> admissions = new ConcurrentHashMap<>();
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalWaitInMilliseconds = new AtomicLong();
+    private final AtomicLong longestWaitInMilliseconds = new AtomicLong();
+
+    public ApplicationAdmissionLimiter(
+            @Value("${application.admission.concurrency-limit:10}") int concurrencyLimit,
+            @Value("${application.admission.queue-capacity:100}") int queueCapacity,
+            @Value("${application.admission.maximum-wait:3000}") long maximumWaitInMilliseconds,
+            @Value("${application.admission.retry-after:5}") long retryAfterSeconds) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.queueCapacity = queueCapacity;
+        this.maximumWaitInMilliseconds = maximumWaitInMilliseconds;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public <T> T execute(String recruitmentCode, Supplier<T> action) {
+        RecruitmentAdmission admission = retain(recruitmentCode);
+        try {
+            acquire(admission);
+            try {
+                return action.get();
+            } finally {
+                admission.permits().release();
+            }
+        } finally {
+            release(recruitmentCode);
+        }
+    }
+
+    private RecruitmentAdmission retain(String recruitmentCode) {
+        return admissions.compute(recruitmentCode, (code, admission) -> {
+            RecruitmentAdmission retainedAdmission =
+                    admission == null ? new RecruitmentAdmission(concurrencyLimit) : admission;
+            retainedAdmission.referenceCount().incrementAndGet();
+            return retainedAdmission;
+        });
+    }
+
+    private void release(String recruitmentCode) {
+        admissions.computeIfPresent(recruitmentCode, (code, admission) ->
+                admission.referenceCount().decrementAndGet() == 0 ? null : admission);
+    }
+
+    private void acquire(RecruitmentAdmission admission) {
+        if (admission.waitingCount().incrementAndGet() > queueCapacity) {
+            admission.waitingCount().decrementAndGet();
+            throw reject();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            if (!admission.permits().tryAcquire(maximumWaitInMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw reject();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            admission.waitingCount().decrementAndGet();
+        }
+        recordWait(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private TooManyRequestsException reject() {
+        rejectedCount.incrementAndGet();
+        return new TooManyRequestsException(CrewsErrorCode.TOO_MANY_APPLICATION_REQUESTS, retryAfterSeconds);
+    }
+
+    private void recordWait(long waitInMilliseconds) {
+        admittedCount.incrementAndGet();
+        totalWaitInMilliseconds.addAndGet(waitInMilliseconds);
+        longestWaitInMilliseconds.accumulateAndGet(waitInMilliseconds, Math::max);
+    }
+
+    public AdmissionStats stats() {
+        int queueDepth = admissions.values().stream()
+                .mapToInt(admission -> admission.waitingCount().get())
+                .sum();
+        long admitted = admittedCount.get();
+        long averageWait = admitted == 0 ? 0 : totalWaitInMilliseconds.get() / admitted;
+        return new AdmissionStats(queueDepth, admitted, rejectedCount.get(), averageWait,
+                longestWaitInMilliseconds.get());
+    }
+
+    @Scheduled(fixedDelayString = "${application.admission.stats-interval:60000}")
+    public void logStats() {
+        AdmissionStats stats = stats();
+        customLogger.info("application admission - queueDepth: {} admitted: {} rejected: {} averageWait: {}ms "
+                        + "longestWait: {}ms", stats.queueDepth(), stats.admittedCount(), stats.rejectedCount(),
+                stats.averageWaitInMilliseconds(), stats.longestWaitInMilliseconds());
+    }
+
+    int admissionCount() {
+        return admissions.size();
+    }
+
+    private record RecruitmentAdmission(Semaphore permits, AtomicInteger waitingCount, AtomicInteger referenceCount) {
+
+        RecruitmentAdmission(int concurrencyLimit) {
+            this(new Semaphore(concurrencyLimit, true), new AtomicInteger(), new AtomicInteger());
+        }
+    }
+
+    public record AdmissionStats(int queueDepth, long admittedCount, long rejectedCount,
+                                 long averageWaitInMilliseconds, long longestWaitInMilliseconds) {
+    }
+}
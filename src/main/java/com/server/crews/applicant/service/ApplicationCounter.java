@@ -0,0 +1,76 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.domain.Outcome;
+import com.server.crews.applicant.event.ApplicationCreatedEvent;
+import com.server.crews.applicant.event.OutcomeChangedEvent;
+import com.server.crews.applicant.event.OutcomeDeterminedEvent;
+import com.server.crews.applicant.repository.ApplicationCountRepository;
+import com.server.crews.applicant.repository.ApplicationRepository;
+import com.server.crews.global.CustomLogger;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    모집 공고별 지원서 수를 Redis에 유지해 모집 현황 조회 때마다 지원서를 세지 않는다.
+    지원서가 새로 저장되면 커밋 이후 카운터를 증가시키고, 지원 결과가 일괄 변경되면 카운터를 지워 다음 조회 때 다시 센다.
+    이벤트 유실 등으로 카운터가 DB와 어긋날 수 있으므로 주기적으로 다시 세어 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationCounter {
+    private static final CustomLogger customLogger = new CustomLogger(ApplicationCounter.class);
+
+    private final ApplicationCountRepository applicationCountRepository;
+    private final ApplicationRepository applicationRepository;
+
+    public ApplicationCounts findByRecruitmentId(Long recruitmentId) {
+        return applicationCountRepository.findByRecruitmentId(recruitmentId)
+                .orElseGet(() -> recount(recruitmentId));
+    }
+
+    @TransactionalEventListener(value = ApplicationCreatedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void increment(ApplicationCreatedEvent event) {
+        applicationCountRepository.incrementIfPresent(event.recruitmentId(), Outcome.PENDING);
+    }
+
+    @TransactionalEventListener(value = OutcomeChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void invalidate(OutcomeChangedEvent event) {
+        applicationCountRepository.deleteByRecruitmentId(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = OutcomeDeterminedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void invalidate(OutcomeDeterminedEvent event) {
+        applicationCountRepository.deleteByRecruitmentId(event.recruitmentId());
+    }
+
+    @Scheduled(fixedDelayString = "${application.count.reconcile-interval:300000}")
+    public void reconcile() {
+        for (Long recruitmentId : applicationCountRepository.findAllRecruitmentIds()) {
+            Optional<ApplicationCounts> cachedCounts = applicationCountRepository.findByRecruitmentId(recruitmentId);
+            if (cachedCounts.isEmpty()) {
+                applicationCountRepository.removeRecruitmentId(recruitmentId);
+                continue;
+            }
+            ApplicationCounts actualCounts = recount(recruitmentId);
+            if (!actualCounts.equals(cachedCounts.get())) {
+                customLogger.info("reconcileApplicationCounts - recruitmentId: {} cached: {} actual: {}",
+                        recruitmentId, cachedCounts.get(), actualCounts);
+            }
+        }
+    }
+
+    private ApplicationCounts recount(Long recruitmentId) {
+        ApplicationCounts applicationCounts = ApplicationCounts.from(
+                applicationRepository.countAllByRecruitmentIdGroupByOutcome(recruitmentId));
+        applicationCountRepository.save(recruitmentId, applicationCounts);
+        return applicationCounts;
+    }
+}
@@ -0,0 +1,40 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.applicant.dto.request.ApplicationSortType;
+import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+    지원서 목록의 마지막 항목을 가리키는 커서이다. 정렬 기준 값과 지원서 id로 다음 페이지의 시작 위치를 정한다.
+ */
+record ApplicationCursor(Long id, String sortValue) {
+    private static final String DELIMITER = ":";
+
+    static ApplicationCursor of(ApplicationsResponse lastApplication, ApplicationSortType sortType) {
+        String sortValue = switch (sortType) {
+            case ID -> "";
+            case NAME -> lastApplication.name();
+            case STUDENT_NUMBER -> lastApplication.studentNumber();
+        };
+        return new ApplicationCursor(lastApplication.id(), sortValue);
+    }
+
+    static ApplicationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            Long id = Long.valueOf(decoded.substring(0, delimiterIndex));
+            return new ApplicationCursor(id, decoded.substring(delimiterIndex + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CrewsException(CrewsErrorCode.INVALID_APPLICATION_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = id + DELIMITER + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,9 @@
 package com.server.crews.applicant.service;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
 import com.server.crews.applicant.domain.Application;
 import com.server.crews.applicant.domain.NarrativeAnswer;
 import com.server.crews.applicant.domain.SelectiveAnswer;
@@ -7,9 +11,12 @@ import com.server.crews.applicant.repository.ApplicationRepository;
 import com.server.crews.applicant.repository.NarrativeAnswerRepository;
 import com.server.crews.applicant.repository.SelectiveAnswerRepository;
 import com.server.crews.global.exception.NotFoundException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +39,61 @@ public class ApplicationDetailsLoader {
                 .map(this::fetchAnswers);
     }
 
+    /*
+    저장 경로에서 이전 지원서를 조회한다. 두 답변 컬렉션을 한 번에 fetch join하면 서술형 답변 수 x 선택형 답변 수만큼의 행이 조회되므로
+    지원서와 각 컬렉션을 별도의 쿼리로 초기화한다. 컬렉션을 교체하지 않으므로 orphanRemoval이 걸린 영속 컬렉션을 그대로 수정할 수 있다.
+     */
+    @Transactional
+    public Optional<Application> findNullableByApplicantIdAndRecruitmentId(Long applicantId, Long recruitmentId) {
+        Optional<Application> application = applicationRepository.findByApplicantIdAndRecruitmentId(applicantId,
+                recruitmentId);
+        application.ifPresent(previousApplication -> {
+            Hibernate.initialize(previousApplication.getNarrativeAnswers());
+            Hibernate.initialize(previousApplication.getSelectiveAnswers());
+        });
+        return application;
+    }
+
+    /*
+    요청한 순서대로 지원서를 반환한다. 답변은 지원서 수와 관계없이 서술형, 선택형 각각 한 번의 IN 쿼리로 조회한다.
+     */
+    public List<Application> findAllByIdsAndRecruitmentId(Collection<Long> applicationIds, Long recruitmentId) {
+        if (applicationIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Application> applicationsById = applicationRepository.findAllByIdInAndRecruitmentId(
+                        applicationIds, recruitmentId)
+                .stream()
+                .collect(toMap(Application::getId, identity()));
+        if (applicationsById.size() != applicationIds.size()) {
+            throw new NotFoundException("지원서 id", "지원서");
+        }
+
+        Map<Long, List<NarrativeAnswer>> narrativeAnswersByApplicationId = narrativeAnswerRepository
+                .findAllByApplicationIdIn(applicationIds)
+                .stream()
+                .collect(groupingBy(narrativeAnswer -> narrativeAnswer.getApplication().getId()));
+        Map<Long, List<SelectiveAnswer>> selectiveAnswersByApplicationId = selectiveAnswerRepository
+                .findAllByApplicationIdIn(applicationIds)
+                .stream()
+                .collect(groupingBy(selectiveAnswer -> selectiveAnswer.getApplication().getId()));
+
+        return applicationIds.stream()
+                .map(applicationsById::get)
+                .map(application -> replaceAnswers(application,
+                        narrativeAnswersByApplicationId.getOrDefault(application.getId(), List.of()),
+                        selectiveAnswersByApplicationId.getOrDefault(application.getId(), List.of())))
+                .toList();
+    }
+
     private Application fetchAnswers(Application application) {
         List<NarrativeAnswer> narrativeAnswers = narrativeAnswerRepository.findAllByApplication(application);
         List<SelectiveAnswer> selectiveAnswers = selectiveAnswerRepository.findAllByApplication(application);
+        return replaceAnswers(application, narrativeAnswers, selectiveAnswers);
+    }
+
+    private Application replaceAnswers(Application application, List<NarrativeAnswer> narrativeAnswers,
+                                       List<SelectiveAnswer> selectiveAnswers) {
         application.replaceWithFetchedNarrativeAnswers(narrativeAnswers);
         application.replaceWithFetchedSelectiveAnswers(selectiveAnswers);
         return application;
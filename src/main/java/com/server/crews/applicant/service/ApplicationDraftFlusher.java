@@ -0,0 +1,121 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.applicant.domain.ApplicationDraft;
+import com.server.crews.applicant.repository.ApplicationDraftRepository;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.exception.CrewsException;
+import com.server.crews.global.lock.DistributedLock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    Redis에 임시 저장된 지원서를 주기적으로 MySQL에 반영한다.
+    지원서마다 lease를 획득한 반영 작업만 반영하고, 반영이 커밋된 뒤에 flushing hash에서 제거한다.
+    검증에 실패한 지원서는 dead letter로 옮겨 보관하고, 그 외의 실패는 flushing hash에 남겨 다음 반영 때 다시 시도한다.
+ */
+@Component
+public class ApplicationDraftFlusher {
+    private static final CustomLogger customLogger = new CustomLogger(ApplicationDraftFlusher.class);
+    private static final String CLAIM_LOCK_NAME_PREFIX = "flushing_application_draft:";
+
+    private final ApplicationDraftRepository applicationDraftRepository;
+    private final ApplicationService applicationService;
+    private final DistributedLock distributedLock;
+    private final Duration claimLeaseTime;
+
+    public ApplicationDraftFlusher(
+            ApplicationDraftRepository applicationDraftRepository,
+            ApplicationService applicationService,
+            DistributedLock distributedLock,
+            @Value("${application.draft.claim-lease-time:60000}") long claimLeaseTimeInMilliseconds) {
+        this.applicationDraftRepository = applicationDraftRepository;
+        this.applicationService = applicationService;
+        this.distributedLock = distributedLock;
+        this.claimLeaseTime = Duration.ofMillis(claimLeaseTimeInMilliseconds);
+    }
+
+    @Scheduled(fixedDelayString = "${application.draft.flush-interval:30000}")
+    public void flushAll() {
+        applicationDraftRepository.findAllRecruitmentCodes()
+                .forEach(this::flush);
+    }
+
+    /*
+    반영 중에 서버가 종료되어 남은 flushing hash를 다음 반영 대상에 다시 포함한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverStaleFlushing() {
+        int recoveredCount = applicationDraftRepository.recoverStaleFlushing();
+        if (recoveredCount > 0) {
+            customLogger.info("recoverStaleDraftFlushing - recruitmentCount: {}", recoveredCount);
+        }
+    }
+
+    public void flush(String recruitmentCode) {
+        Map<Long, ApplicationDraft> drafts = applicationDraftRepository.startFlushing(recruitmentCode);
+        int flushedCount = 0;
+        int supersededCount = 0;
+        for (Long applicantId : drafts.keySet()) {
+            FlushResult result = claimAndFlush(recruitmentCode, applicantId);
+            if (result == FlushResult.FLUSHED) {
+                flushedCount++;
+            }
+            if (result == FlushResult.SUPERSEDED) {
+                supersededCount++;
+            }
+        }
+        applicationDraftRepository.finishFlushing(recruitmentCode);
+        if (!drafts.isEmpty()) {
+            customLogger.info(
+                    "flushDraftApplications - recruitmentCode: {} draftCount: {} flushedCount: {} supersededCount: {}",
+                    recruitmentCode, drafts.size(), flushedCount, supersededCount);
+        }
+    }
+
+    /*
+    다른 반영 작업이 lease를 획득한 지원서는 건너뛴다. lease를 획득한 뒤 flushing hash를 다시 읽어
+    그 사이 제출로 삭제되었거나 다른 반영 작업이 이미 반영한 지원서는 반영하지 않는다.
+     */
+    private FlushResult claimAndFlush(String recruitmentCode, Long applicantId) {
+        String claimLockName = CLAIM_LOCK_NAME_PREFIX + recruitmentCode + ":" + applicantId;
+        Optional<String> claim = distributedLock.tryAcquire(claimLockName, claimLeaseTime);
+        if (claim.isEmpty()) {
+            return FlushResult.SKIPPED;
+        }
+        try {
+            return applicationDraftRepository.findFlushing(recruitmentCode, applicantId)
+                    .map(draft -> flush(applicantId, draft))
+                    .orElse(FlushResult.SKIPPED);
+        } finally {
+            distributedLock.release(claimLockName, claim.get());
+        }
+    }
+
+    /*
+    임시 저장 이후에 더 최신 지원서가 저장되었다면 임시 저장본은 반영하지 않고 버린다.
+     */
+    private FlushResult flush(Long applicantId, ApplicationDraft draft) {
+        try {
+            boolean flushed = applicationService.flushDraftApplication(applicantId, draft);
+            applicationDraftRepository.removeFlushed(applicantId, draft);
+            return flushed ? FlushResult.FLUSHED : FlushResult.SUPERSEDED;
+        } catch (CrewsException e) {
+            applicationDraftRepository.moveToDeadLetter(applicantId, draft);
+            customLogger.error(e);
+            return FlushResult.FAILED;
+        } catch (RuntimeException e) {
+            customLogger.error(e);
+            return FlushResult.FAILED;
+        }
+    }
+
+    private enum FlushResult {
+        FLUSHED, SUPERSEDED, FAILED, SKIPPED
+    }
+}
@@ -0,0 +1,187 @@
+package com.server.crews.applicant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.applicant.domain.ExportedApplication;
+import com.server.crews.applicant.dto.request.ApplicationExportFormat;
+import com.server.crews.applicant.dto.response.AnswerResponse;
+import com.server.crews.applicant.dto.response.ApplicationExportResponse;
+import com.server.crews.applicant.dto.response.SectionAnswerResponse;
+import com.server.crews.applicant.repository.ApplicationExportRepository;
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.Question;
+import com.server.crews.recruitment.domain.QuestionType;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import com.server.crews.recruitment.service.RecruitmentDetailsLoader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+    모집 공고의 모든 지원서를 답변과 함께 지원서 양식의 섹션, 문항 순서대로 내보낸다.
+    지원서를 id 구간 단위로 읽어 바로 출력 스트림에 쓰므로 지원서 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationExporter {
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final List<String> APPLICANT_HEADERS = List.of("학번", "전공", "이름", "결과");
+    private static final String CHOICE_DELIMITER = ", ";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+
+    private final RecruitmentDetailsLoader recruitmentDetailsLoader;
+    private final ApplicationExportRepository applicationExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public Recruitment findRecruitment(Long publisherId) {
+        return recruitmentDetailsLoader.findWithSectionsByPublisherId(publisherId);
+    }
+
+    public void export(Recruitment recruitment, ApplicationExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ExportForm exportForm = ExportForm.from(recruitment);
+        if (format == ApplicationExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다.
+            writer.write(BYTE_ORDER_MARK);
+            writeCsvRow(writer, exportForm.headers());
+        }
+
+        try {
+            applicationExportRepository.streamAllByRecruitmentId(recruitment.getId(),
+                    application -> write(writer, format, exportForm, application));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(Writer writer, ApplicationExportFormat format, ExportForm exportForm,
+                       ExportedApplication application) {
+        try {
+            if (format == ApplicationExportFormat.CSV) {
+                writeCsvRow(writer, exportForm.csvRow(application));
+                return;
+            }
+            writer.write(objectMapper.writeValueAsString(exportForm.response(application)));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /*
+    스프레드시트가 지원자가 입력한 값을 수식으로 실행하지 않도록 수식으로 해석되는 문자로 시작하는 값 앞에 '를 붙인다.
+     */
+    private String escapeCsv(String rawValue) {
+        if (rawValue == null) {
+            return "";
+        }
+        String value = neutralizeFormula(rawValue);
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private String neutralizeFormula(String value) {
+        if (value.isEmpty() || FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0) {
+            return value;
+        }
+        return FORMULA_ESCAPE + value;
+    }
+
+    /*
+        지원서마다 양식을 다시 순회하지 않도록 섹션별 정렬된 문항과 선택지 내용을 한 번만 계산한다.
+     */
+    private record ExportForm(List<SectionQuestions> sections, Map<Long, String> choiceContents) {
+
+        static ExportForm from(Recruitment recruitment) {
+            List<SectionQuestions> sections = recruitment.getOrderedSections()
+                    .stream()
+                    .map(section -> new SectionQuestions(section.getId(), section.getOrderedQuestions()))
+                    .toList();
+            Map<Long, String> choiceContents = new HashMap<>();
+            for (SelectiveQuestion selectiveQuestion : recruitment.getSelectiveQuestions()) {
+                for (Choice choice : selectiveQuestion.getChoices()) {
+                    choiceContents.put(choice.getId(), choice.getContent());
+                }
+            }
+            return new ExportForm(sections, choiceContents);
+        }
+
+        List<String> headers() {
+            List<String> headers = new ArrayList<>(APPLICANT_HEADERS);
+            sections.forEach(section -> section.questions().forEach(question -> headers.add(question.getContent())));
+            return headers;
+        }
+
+        List<String> csvRow(ExportedApplication application) {
+            List<String> values = new ArrayList<>(List.of(application.studentNumber(), application.major(),
+                    application.name(), application.outcome().name()));
+            for (SectionQuestions section : sections) {
+                for (Question question : section.questions()) {
+                    values.add(csvAnswer(application, question));
+                }
+            }
+            return values;
+        }
+
+        private String csvAnswer(ExportedApplication application, Question question) {
+            if (question.getQuestionType() == QuestionType.NARRATIVE) {
+                return application.narrativeAnswers().get(question.getId());
+            }
+            return application.choiceIdsByQuestionId()
+                    .getOrDefault(question.getId(), List.of())
+                    .stream()
+                    .map(choiceContents::get)
+                    .collect(Collectors.joining(CHOICE_DELIMITER));
+        }
+
+        ApplicationExportResponse response(ExportedApplication application) {
+            List<SectionAnswerResponse> sectionAnswerResponses = sections.stream()
+                    .map(section -> new SectionAnswerResponse(section.sectionId(), section.questions()
+                            .stream()
+                            .map(question -> answerResponse(application, question))
+                            .toList()))
+                    .toList();
+            return new ApplicationExportResponse(application.id(), application.studentNumber(), application.major(),
+                    application.name(), application.outcome(), sectionAnswerResponses);
+        }
+
+        private AnswerResponse answerResponse(ExportedApplication application, Question question) {
+            if (question.getQuestionType() == QuestionType.NARRATIVE) {
+                return new AnswerResponse(question.getId(), application.narrativeAnswers().get(question.getId()),
+                        null, QuestionType.NARRATIVE);
+            }
+            return new AnswerResponse(question.getId(), null,
+                    application.choiceIdsByQuestionId().get(question.getId()), QuestionType.SELECTIVE);
+        }
+    }
+
+    private record SectionQuestions(Long sectionId, List<Question> questions) {
+    }
+}
@@ -7,83 +7,92 @@ import static java.util.stream.Collectors.toMap;
 import com.server.crews.applicant.domain.Application;
 import com.server.crews.applicant.domain.NarrativeAnswer;
 import com.server.crews.applicant.domain.SelectiveAnswer;
-import com.server.crews.recruitment.domain.NarrativeQuestion;
 import com.server.crews.recruitment.domain.Recruitment;
-import com.server.crews.recruitment.domain.SelectiveQuestion;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
 import jakarta.annotation.Nullable;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/*
+    검증 계획은 지원서 양식마다 한 번만 만들어 모집 공고 id별로 저장하고, 지원서 양식이 바뀌면 제거한다.
+    검증 계획을 만드는 동안 잠금을 잡지 않으므로, 동시에 처음 조회되면 여러 번 만들어질 수 있지만 먼저 저장된 계획을 사용한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ApplicationManager {
 
     private final NarrativeAnswerManager narrativeAnswerManager;
     private final SelectiveAnswerManager selectiveAnswerManager;
+    private final Map<Long, AnswerValidationPlan> validationPlans = new ConcurrentHashMap<>();
+
+    public void validateAnswers(Recruitment recruitment, List<NarrativeAnswer> newNarrativeAnswers,
+                                List<SelectiveAnswer> newSelectiveAnswers, boolean submitted) {
+        validationPlan(recruitment).validate(newNarrativeAnswers, newSelectiveAnswers, submitted);
+    }
 
     public List<NarrativeAnswer> writeNarrativeAnswers(Recruitment recruitment,
                                                        @Nullable Application previousApplication,
                                                        List<NarrativeAnswer> newNarrativeAnswers) {
-        List<NarrativeQuestion> narrativeQuestions = recruitment.getNarrativeQuestion();
         Map<Long, NarrativeAnswer> newNarrativeAnswersByQuestionId = newNarrativeAnswers.stream()
                 .collect(toMap(NarrativeAnswer::getQuestionId, identity()));
+        Map<Long, NarrativeAnswer> previousNarrativeAnswersByQuestionId = previousApplication == null
+                ? Map.of() : previousApplication.getNarrativeAnswersByQuestionId();
 
-        if (previousApplication == null) {
-            return writeNarrativeAnswersWithQuestions(narrativeQuestions, new HashMap<>(),
-                    newNarrativeAnswersByQuestionId);
+        List<NarrativeAnswer> narrativeAnswers = new ArrayList<>();
+        for (long questionId : validationPlan(recruitment).narrativeQuestionIds()) {
+            NarrativeAnswer narrativeAnswer = narrativeAnswerManager.getSynchronizedAnswers(
+                    previousNarrativeAnswersByQuestionId.get(questionId),
+                    newNarrativeAnswersByQuestionId.get(questionId));
+            if (narrativeAnswer != null) {
+                narrativeAnswers.add(narrativeAnswer);
+            }
         }
-
-        Map<Long, NarrativeAnswer> previousNarrativeAnswersByQuestionId = previousApplication.getNarrativeAnswersByQuestionId();
-        return writeNarrativeAnswersWithQuestions(narrativeQuestions, previousNarrativeAnswersByQuestionId,
-                newNarrativeAnswersByQuestionId);
-    }
-
-    private List<NarrativeAnswer> writeNarrativeAnswersWithQuestions(List<NarrativeQuestion> narrativeQuestions,
-                                                                     Map<Long, NarrativeAnswer> previousNarrativeAnswersByQuestionId,
-                                                                     Map<Long, NarrativeAnswer> newNarrativeAnswersByQuestionId) {
-        return narrativeQuestions.stream()
-                .map(question -> narrativeAnswerManager.getValidatedAnswers(
-                        question,
-                        previousNarrativeAnswersByQuestionId.get(question.getId()),
-                        newNarrativeAnswersByQuestionId.get(question.getId()))
-                )
-                .filter(Objects::nonNull)
-                .toList();
+        return narrativeAnswers;
     }
 
     public List<SelectiveAnswer> writeSelectiveAnswers(Recruitment recruitment,
                                                        @Nullable Application previousApplication,
                                                        List<SelectiveAnswer> newSelectiveAnswers) {
-        List<SelectiveQuestion> selectiveQuestions = recruitment.getSelectiveQuestions();
         Map<Long, List<SelectiveAnswer>> newSelectiveAnswersByQuestionId = newSelectiveAnswers.stream()
                 .collect(groupingBy(SelectiveAnswer::getQuestionId));
+        Map<Long, List<SelectiveAnswer>> previousSelectiveAnswersByQuestionId = previousApplication == null
+                ? Map.of() : previousApplication.getSelectiveAnswersByQuestionId();
 
-        if (previousApplication == null) {
-            return writeSelectiveAnswersWithQuestionId(selectiveQuestions, new HashMap<>(),
-                    newSelectiveAnswersByQuestionId);
+        List<SelectiveAnswer> selectiveAnswers = new ArrayList<>();
+        for (long questionId : validationPlan(recruitment).selectiveQuestionIds()) {
+            List<SelectiveAnswer> questionSelectiveAnswers = selectiveAnswerManager.getSynchronizedAnswers(
+                    previousSelectiveAnswersByQuestionId.get(questionId),
+                    newSelectiveAnswersByQuestionId.get(questionId));
+            if (questionSelectiveAnswers != null) {
+                selectiveAnswers.addAll(questionSelectiveAnswers);
+            }
         }
+        return selectiveAnswers;
+    }
+
+    @TransactionalEventListener(value = RecruitmentFormChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void invalidate(RecruitmentFormChangedEvent event) {
+        validationPlans.remove(event.recruitmentId());
+    }
 
-        Map<Long, List<SelectiveAnswer>> previousSelectiveAnswersByQuestionId = previousApplication.getSelectiveAnswersByQuestionId();
-        return writeSelectiveAnswersWithQuestionId(selectiveQuestions, previousSelectiveAnswersByQuestionId,
-                newSelectiveAnswersByQuestionId);
+    public void clear() {
+        validationPlans.clear();
     }
 
-    private List<SelectiveAnswer> writeSelectiveAnswersWithQuestionId(List<SelectiveQuestion> selectiveQuestions,
-                                                                      Map<Long, List<SelectiveAnswer>> previousSelectiveAnswersByQuestionId,
-                                                                      Map<Long, List<SelectiveAnswer>> newSelectiveAnswersByQuestionId) {
-        return selectiveQuestions.stream()
-                .map(question -> selectiveAnswerManager.getValidatedAnswers(
-                        question,
-                        previousSelectiveAnswersByQuestionId.get(question.getId()),
-                        newSelectiveAnswersByQuestionId.get(question.getId()))
-                )
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .toList();
+    private AnswerValidationPlan validationPlan(Recruitment recruitment) {
+        AnswerValidationPlan validationPlan = validationPlans.get(recruitment.getId());
+        if (validationPlan != null) {
+            return validationPlan;
+        }
+        AnswerValidationPlan compiledPlan = AnswerValidationPlan.compile(recruitment);
+        AnswerValidationPlan existingPlan = validationPlans.putIfAbsent(recruitment.getId(), compiledPlan);
+        return existingPlan == null ? compiledPlan : existingPlan;
     }
 }
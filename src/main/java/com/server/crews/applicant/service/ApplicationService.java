@@ -1,24 +1,50 @@
 package com.server.crews.applicant.service;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+
 import com.server.crews.applicant.domain.Application;
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.domain.ApplicationDraft;
 import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.applicant.domain.Outcome;
 import com.server.crews.applicant.domain.SelectiveAnswer;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationSortType;
+import com.server.crews.applicant.dto.request.EvaluationPatchRequest;
 import com.server.crews.applicant.dto.request.EvaluationRequest;
+import com.server.crews.applicant.dto.response.ApplicationAckResponse;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
+import com.server.crews.applicant.dto.response.ApplicationsPage;
 import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import com.server.crews.applicant.dto.response.OutcomeCountResponse;
+import com.server.crews.applicant.event.OutcomeChangedEvent;
 import com.server.crews.applicant.mapper.ApplicationMapper;
+import com.server.crews.applicant.repository.ApplicationDraftRepository;
 import com.server.crews.applicant.repository.ApplicationRepository;
 import com.server.crews.global.exception.CrewsErrorCode;
 import com.server.crews.global.exception.CrewsException;
+import com.server.crews.global.exception.NotFoundException;
 import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentStatus;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
 import com.server.crews.recruitment.service.RecruitmentDetailsLoader;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -26,21 +52,92 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ApplicationService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAXIMUM_PAGE_SIZE = 200;
+
     private final ApplicationRepository applicationRepository;
     private final ApplicationDetailsLoader applicationDetailsLoader;
     private final RecruitmentDetailsLoader recruitmentDetailsLoader;
     private final ApplicationManager applicationManager;
+    private final ApplicationWriter applicationWriter;
+    private final ApplicationDraftRepository applicationDraftRepository;
+    private final RecruitmentRepository recruitmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /*
+    제출하지 않은 저장은 작성 중인 지원서의 자동 저장이므로 필수 답변이 없어도 저장한다.
+     */
+    @Transactional
+    public ApplicationDetailsResponse saveApplication(Long applicantId, ApplicationSaveRequest request,
+                                                      boolean submitted) {
+        Application application = submitApplication(applicantId, request, submitted);
+        return ApplicationAnswerReader.readBySection(application.getRecruitment(), application);
+    }
 
+    /*
+    자동 저장처럼 저장 여부만 필요한 요청에는 답변을 섹션별로 다시 조립하지 않고 지원서 id와 리비전만 반환한다.
+     */
     @Transactional
-    public ApplicationDetailsResponse saveApplication(Long applicantId, ApplicationSaveRequest request) {
+    public ApplicationAckResponse saveApplicationWithAck(Long applicantId, ApplicationSaveRequest request,
+                                                         boolean submitted) {
+        Application application = submitApplication(applicantId, request, submitted);
+        return new ApplicationAckResponse(application.getId(), application.getRevision());
+    }
+
+    private Application submitApplication(Long applicantId, ApplicationSaveRequest request, boolean submitted) {
+        Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByCode(request.recruitmentCode());
+        validateRecruitmentProgress(recruitment);
+        Application application = writeApplication(applicantId, recruitment, request, submitted);
+        applicationDraftRepository.deleteByApplicantIdAndRecruitmentCode(applicantId, request.recruitmentCode());
+        return application;
+    }
+
+    /*
+    반영할 때 검증에 실패하지 않도록 임시 저장할 때 작성 중인 지원서와 같은 기준으로 검증한다.
+     */
+    public void saveDraftApplication(Long applicantId, ApplicationSaveRequest request) {
         Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByCode(request.recruitmentCode());
         validateRecruitmentProgress(recruitment);
+        applicationManager.validateAnswers(recruitment,
+                ApplicationMapper.narrativeAnswersInApplicationSaveRequest(request),
+                ApplicationMapper.selectiveAnswersInApplicationSaveRequest(request), false);
+        long baseRevision = applicationRepository.findRevisionByApplicantIdAndRecruitmentId(applicantId,
+                recruitment.getId()).orElse(0L);
+        applicationDraftRepository.save(applicantId, new ApplicationDraft(request, baseRevision));
+    }
+
+    /*
+    모집 마감 작업 중에 호출되어도 마감 트랜잭션과 분리되도록 새 트랜잭션에서 반영한다.
+    임시 저장은 모집 진행 중에만 받으므로, 반영 전에 모집 공고가 마감되었더라도 모집 진행 여부를 확인하지 않고 반영한다.
+    지원서 행을 잠근 뒤 리비전을 비교하므로, 임시 저장 이후에 저장된 지원서가 있으면 반영하지 않고 false를 반환한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean flushDraftApplication(Long applicantId, ApplicationDraft draft) {
+        Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByCode(draft.request().recruitmentCode());
+        return flushDraftApplication(applicantId, draft, recruitment);
+    }
+
+    private boolean flushDraftApplication(Long applicantId, ApplicationDraft draft, Recruitment recruitment) {
+        long currentRevision = applicationRepository.findForUpdateByApplicantIdAndRecruitmentId(applicantId,
+                        recruitment.getId())
+                .map(Application::getRevision)
+                .orElse(0L);
+        if (currentRevision > draft.baseRevision()) {
+            return false;
+        }
+        writeApplication(applicantId, recruitment, draft.request(), false);
+        return true;
+    }
 
+    private Application writeApplication(Long applicantId, Recruitment recruitment, ApplicationSaveRequest request,
+                                         boolean submitted) {
         List<NarrativeAnswer> newNarrativeAnswers = ApplicationMapper.narrativeAnswersInApplicationSaveRequest(request);
         List<SelectiveAnswer> newSelectiveAnswers = ApplicationMapper.selectiveAnswersInApplicationSaveRequest(request);
+        applicationManager.validateAnswers(recruitment, newNarrativeAnswers, newSelectiveAnswers, submitted);
 
-        Application previosApplication = applicationRepository.findByApplicantIdAndRecruitmentId(applicantId, recruitment.getId())
-                .orElse(null);
+        Application previosApplication = applicationDetailsLoader.findNullableByApplicantIdAndRecruitmentId(applicantId,
+                recruitment.getId()).orElse(null);
         List<NarrativeAnswer> updatedNarrativeAnswers = applicationManager.writeNarrativeAnswers(recruitment,
                 previosApplication, newNarrativeAnswers);
         List<SelectiveAnswer> updatedSelectiveAnswers = applicationManager.writeSelectiveAnswers(recruitment,
@@ -48,25 +145,59 @@ public class ApplicationService {
 
         Application application = ApplicationMapper.applicationSaveRequestToApplication(request, recruitment,
                 applicantId, updatedNarrativeAnswers, updatedSelectiveAnswers);
-        Application savedApplication = applicationRepository.save(application);
-
-        return ApplicationAnswerReader.readBySection(recruitment, savedApplication);
+        return applicationWriter.write(previosApplication, application);
     }
 
+    /*
+    다른 서버에서 캐시된 모집 공고는 마감 후에도 진행 중으로 남아 있을 수 있으므로, 모집 진행 상태와 마감 기한은 DB에서 다시 읽는다.
+    마감 작업이 실행되기 전이라도 마감 기한이 지났다면 마감된 것으로 본다.
+     */
     private void validateRecruitmentProgress(Recruitment recruitment) {
-        if (!recruitment.isStarted()) {
+        RecruitmentStatus status = recruitmentRepository.findStatusById(recruitment.getId())
+                .orElseThrow(() -> new NotFoundException("모집 공고 id", "모집 공고"));
+        if (!status.isStarted()) {
             throw new CrewsException(CrewsErrorCode.RECRUITMENT_NOT_STARTED);
         }
-        if (!recruitment.isInProgress()) {
+        if (!status.isInProgressAt(LocalDateTime.now(clock))) {
             throw new CrewsException(CrewsErrorCode.RECRUITMENT_CLOSED);
         }
     }
 
-    public List<ApplicationsResponse> findAllApplicationsByPublisher(Long publisherId) {
-        List<Application> applications = applicationRepository.findAllWithRecruitmentByPublisherId(publisherId);
-        return applications.stream()
-                .map(ApplicationMapper::applicationToApplicationsResponse)
-                .toList();
+    /*
+    지원서 전체를 엔티티로 불러오지 않고 목록에 필요한 값만 키셋 방식으로 한 페이지씩 조회한다.
+    커서와 페이지 크기가 모두 없으면 페이지를 나누기 전의 클라이언트를 위해 전체 목록을 반환한다.
+     */
+    public ApplicationsPage findApplicationsByPublisher(Long publisherId, Outcome outcome,
+                                                       ApplicationSortType sortType, String cursor, Integer size) {
+        if (cursor == null && size == null) {
+            return new ApplicationsPage(findApplications(publisherId, outcome, sortType, null, null,
+                    Pageable.unpaged()), null);
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAXIMUM_PAGE_SIZE);
+        ApplicationCursor applicationCursor = cursor == null ? null : ApplicationCursor.decode(cursor);
+        Long cursorId = applicationCursor == null ? null : applicationCursor.id();
+        String cursorValue = applicationCursor == null ? null : applicationCursor.sortValue();
+        List<ApplicationsResponse> applications = findApplications(publisherId, outcome, sortType, cursorId,
+                cursorValue, PageRequest.of(0, pageSize + 1));
+
+        if (applications.size() <= pageSize) {
+            return new ApplicationsPage(applications, null);
+        }
+        List<ApplicationsResponse> page = applications.subList(0, pageSize);
+        String nextCursor = ApplicationCursor.of(page.get(pageSize - 1), sortType).encode();
+        return new ApplicationsPage(page, nextCursor);
+    }
+
+    private List<ApplicationsResponse> findApplications(Long publisherId, Outcome outcome,
+                                                        ApplicationSortType sortType, Long cursorId,
+                                                        String cursorValue, Pageable pageable) {
+        return switch (sortType) {
+            case ID -> applicationRepository.findPageOrderById(publisherId, outcome, cursorId, pageable);
+            case NAME -> applicationRepository.findPageOrderByName(publisherId, outcome, cursorId, cursorValue,
+                    pageable);
+            case STUDENT_NUMBER -> applicationRepository.findPageOrderByStudentNumber(publisherId, outcome, cursorId,
+                    cursorValue, pageable);
+        };
     }
 
     public ApplicationDetailsResponse findApplicationDetails(Long applicationId, Long publisherId) {
@@ -77,35 +208,94 @@ public class ApplicationService {
         return ApplicationAnswerReader.readBySection(recruitment, application);
     }
 
+    /*
+    모집 공고 양식은 한 번만 불러오고, 지원서와 답변은 지원서 개수와 관계없이 세 번의 쿼리로 조회한다.
+     */
+    public List<ApplicationDetailsResponse> findAllApplicationDetails(List<Long> applicationIds, Long publisherId) {
+        Set<Long> distinctApplicationIds = new LinkedHashSet<>(applicationIds);
+        if (distinctApplicationIds.size() > MAXIMUM_PAGE_SIZE) {
+            throw new CrewsException(CrewsErrorCode.TOO_MANY_APPLICATION_IDS);
+        }
+        Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByPublisherId(publisherId);
+
+        return applicationDetailsLoader.findAllByIdsAndRecruitmentId(distinctApplicationIds, recruitment.getId())
+                .stream()
+                .map(application -> ApplicationAnswerReader.readBySection(recruitment, application))
+                .toList();
+    }
+
     public Optional<ApplicationDetailsResponse> findMyApplicationDetails(Long applicantId, String code) {
         Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByCode(code);
+        Optional<ApplicationSaveRequest> draft = applicationDraftRepository.findByApplicantIdAndRecruitmentCode(
+                applicantId, code);
+        if (draft.isPresent()) {
+            return draft.map(request -> readDraft(applicantId, recruitment, request));
+        }
         return applicationDetailsLoader.findNullableByApplicantIdAndRecruitmentCode(applicantId, code)
                 .map(application -> ApplicationAnswerReader.readBySection(recruitment, application));
     }
 
+    private ApplicationDetailsResponse readDraft(Long applicantId, Recruitment recruitment,
+                                                 ApplicationSaveRequest request) {
+        Application draftApplication = ApplicationMapper.applicationSaveRequestToApplication(request, recruitment,
+                applicantId, ApplicationMapper.narrativeAnswersInApplicationSaveRequest(request),
+                ApplicationMapper.selectiveAnswersInApplicationSaveRequest(request));
+        return ApplicationAnswerReader.readBySection(recruitment, draftApplication);
+    }
+
+    /*
+    지원서를 엔티티로 불러오지 않고, 지원자 수와 관계없이 합격과 불합격 두 번의 update 문으로 평가를 반영한다.
+     */
     @Transactional
     public void decideOutcome(EvaluationRequest request, Long publisherId) {
-        List<Application> applications = applicationRepository.findAllWithRecruitmentByPublisherId(publisherId);
-        applications.stream().findAny()
-                .map(Application::getRecruitment)
-                .ifPresent(this::checkRecruitmentAnnouncedProgress);
+        Recruitment recruitment = findNotAnnouncedRecruitment(publisherId);
 
         Set<Long> passApplicationIds = new HashSet<>(request.passApplicationIds());
-        applications.stream()
-                .filter(application -> containedInPassList(application, passApplicationIds))
-                .forEach(Application::pass);
-        applications.stream()
-                .filter(application -> !containedInPassList(application, passApplicationIds))
-                .forEach(Application::reject);
+        eventPublisher.publishEvent(new OutcomeChangedEvent(recruitment.getId()));
+        if (passApplicationIds.isEmpty()) {
+            applicationRepository.updateOutcomeByRecruitmentId(recruitment.getId(), Outcome.FAIL);
+            return;
+        }
+        applicationRepository.updateOutcomeByRecruitmentIdAndIdIn(recruitment.getId(), passApplicationIds,
+                Outcome.PASS);
+        applicationRepository.updateOutcomeByRecruitmentIdAndIdNotIn(recruitment.getId(), passApplicationIds,
+                Outcome.FAIL);
+    }
+
+    /*
+    요청에 포함된 지원서의 결과만 바꾸고, 바뀐 합격, 불합격, 미정 지원서 수를 반환한다.
+    같은 지원서가 여러 번 포함되면 마지막 결과를 반영한다.
+     */
+    @Transactional
+    public OutcomeCountResponse patchOutcomes(EvaluationPatchRequest request, Long publisherId) {
+        Recruitment recruitment = findNotAnnouncedRecruitment(publisherId);
+
+        Map<Long, Outcome> outcomesByApplicationId = new LinkedHashMap<>();
+        request.outcomes()
+                .forEach(patch -> outcomesByApplicationId.put(patch.applicationId(), patch.outcome()));
+        Map<Outcome, Set<Long>> applicationIdsByOutcome = outcomesByApplicationId.entrySet()
+                .stream()
+                .collect(groupingBy(Map.Entry::getValue, mapping(Map.Entry::getKey, toSet())));
+        applicationIdsByOutcome.forEach((outcome, applicationIds) -> applicationRepository
+                .updateOutcomeByRecruitmentIdAndIdIn(recruitment.getId(), applicationIds, outcome));
+        eventPublisher.publishEvent(new OutcomeChangedEvent(recruitment.getId()));
+
+        return countOutcomes(recruitment.getId());
+    }
+
+    private OutcomeCountResponse countOutcomes(Long recruitmentId) {
+        ApplicationCounts applicationCounts = ApplicationCounts.from(
+                applicationRepository.countAllByRecruitmentIdGroupByOutcome(recruitmentId));
+        return new OutcomeCountResponse(applicationCounts.passCount(), applicationCounts.failCount(),
+                applicationCounts.pendingCount());
     }
 
-    private void checkRecruitmentAnnouncedProgress(Recruitment recruitment) {
+    private Recruitment findNotAnnouncedRecruitment(Long publisherId) {
+        Recruitment recruitment = recruitmentRepository.findByPublisher(publisherId)
+                .orElseThrow(() -> new NotFoundException("동아리 관리자 id", "모집 공고"));
         if (recruitment.isAnnounced()) {
             throw new CrewsException(CrewsErrorCode.ALREADY_ANNOUNCED);
         }
-    }
-
-    private boolean containedInPassList(Application application, Set<Long> passApplicationIds) {
-        return passApplicationIds.contains(application.getId());
+        return recruitment;
     }
 }
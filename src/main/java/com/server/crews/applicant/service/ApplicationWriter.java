@@ -0,0 +1,61 @@
+package com.server.crews.applicant.service;
+
+import com.server.crews.applicant.domain.AnswerChanges;
+import com.server.crews.applicant.domain.Application;
+import com.server.crews.applicant.event.ApplicationCreatedEvent;
+import com.server.crews.applicant.event.OutcomeChangedEvent;
+import com.server.crews.applicant.repository.AnswerJdbcRepository;
+import com.server.crews.applicant.repository.ApplicationRepository;
+import com.server.crews.global.CustomLogger;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/*
+    지원서 정보는 JPA로 저장하고, 답변은 이전 답변과의 차이만 배치로 반영한다.
+    저장할 때마다 지원서 리비전을 DB에서 원자적으로 증가시키므로 동시에 저장해도 리비전은 단조 증가한다.
+    다시 저장된 지원서는 평가를 다시 받아야 하므로 결과를 대기 상태로 되돌린다.
+    반환되는 지원서는 응답 생성용으로만 사용하며 영속성 컨텍스트에 속하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationWriter {
+    private static final CustomLogger customLogger = new CustomLogger(ApplicationWriter.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final AnswerJdbcRepository answerJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Application write(@Nullable Application previousApplication, Application application) {
+        Long applicationId = saveApplicantInformation(previousApplication, application);
+        AnswerChanges answerChanges = AnswerChanges.between(previousApplication, application);
+        int answerStatementCount = answerJdbcRepository.saveChanges(applicationId, answerChanges);
+        customLogger.debug("writeApplication - applicationId: {} answerStatementCount: {}", applicationId,
+                answerStatementCount);
+
+        applicationRepository.increaseRevisionById(applicationId);
+        application.setToOriginalId(applicationId);
+        application.setToCurrentRevision(applicationRepository.findRevisionById(applicationId));
+        return application;
+    }
+
+    private Long saveApplicantInformation(@Nullable Application previousApplication, Application application) {
+        if (previousApplication == null) {
+            Application newApplication = new Application(null, application.getRecruitment(),
+                    application.getApplicant().getId(), application.getStudentNumber(), application.getMajor(),
+                    application.getName(), List.of(), List.of());
+            Long applicationId = applicationRepository.saveAndFlush(newApplication).getId();
+            eventPublisher.publishEvent(new ApplicationCreatedEvent(application.getRecruitment().getId()));
+            return applicationId;
+        }
+        previousApplication.updateApplicantInformation(application.getStudentNumber(), application.getMajor(),
+                application.getName());
+        if (!previousApplication.isNotDetermined()) {
+            previousApplication.resetOutcome();
+            eventPublisher.publishEvent(new OutcomeChangedEvent(application.getRecruitment().getId()));
+        }
+        return previousApplication.getId();
+    }
+}
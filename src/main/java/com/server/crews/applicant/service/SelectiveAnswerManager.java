@@ -3,24 +3,13 @@ package com.server.crews.applicant.service;
 import static java.util.stream.Collectors.toMap;
 
 import com.server.crews.applicant.domain.SelectiveAnswer;
-import com.server.crews.global.exception.CrewsErrorCode;
-import com.server.crews.global.exception.CrewsException;
-import com.server.crews.recruitment.domain.SelectiveQuestion;
 import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Service;
 
 @Service
-public class SelectiveAnswerManager extends AnswerManager<SelectiveQuestion, List<SelectiveAnswer>> {
-
-    @Override
-    protected void validate(SelectiveQuestion question, List<SelectiveAnswer> answer) {
-//        int selectionCount = answer.size();
-//        if (question.isSelectionCountOutOfBounds(selectionCount)) {
-//            throw new CrewsException(CrewsErrorCode.SELECTION_COUNT_OUT_OF_RANGE);
-//        }
-    }
+public class SelectiveAnswerManager extends AnswerManager<List<SelectiveAnswer>> {
 
     @Override
     protected List<SelectiveAnswer> synchronizeWithPreviousAnswers(@Nullable List<SelectiveAnswer> previousAnswer,
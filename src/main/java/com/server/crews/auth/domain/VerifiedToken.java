@@ -0,0 +1,7 @@
+package com.server.crews.auth.domain;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Instant;
+
+public record VerifiedToken(SignatureAlgorithm algorithm, Role role, String subject, Instant expiration) {
+}
@@ -3,6 +3,7 @@ package com.server.crews.auth.service;
 import com.server.crews.auth.domain.Administrator;
 import com.server.crews.auth.domain.Applicant;
 import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.domain.VerifiedToken;
 import com.server.crews.auth.dto.LoginUser;
 import com.server.crews.auth.dto.request.AdminLoginRequest;
 import com.server.crews.auth.dto.request.ApplicantLoginRequest;
@@ -23,6 +24,7 @@ public class AuthService {
     private final ApplicantRepository applicantRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final LoginUserCache loginUserCache;
 
     @Transactional
     public TokenResponse registerForAdmin(AdminLoginRequest request) {
@@ -95,48 +97,44 @@ public class AuthService {
     }
 
     public LoginUser findAdminAuthentication(String accessToken) {
-        jwtTokenProvider.validateAccessToken(accessToken);
-        validateAdminAuthorization(accessToken);
-        String clubName = jwtTokenProvider.getPayload(accessToken);
-        Administrator administrator = administratorRepository.findByClubName(clubName)
-                .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
-        return new LoginUser(administrator.getId(), administrator.getClubName(), Role.ADMIN);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+        validateAuthorization(verifiedToken, Role.ADMIN);
+        return findAdminLoginUser(verifiedToken.subject());
     }
 
-    private void validateAdminAuthorization(String accessToken) {
-        Role role = jwtTokenProvider.getRole(accessToken);
-        if (role != Role.ADMIN) {
-            throw new CrewsException(CrewsErrorCode.UNAUTHORIZED_USER);
-        }
+    private LoginUser findAdminLoginUser(String clubName) {
+        return loginUserCache.getOrLoad(Role.ADMIN, clubName, () -> {
+            Administrator administrator = administratorRepository.findByClubName(clubName)
+                    .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
+            return new LoginUser(administrator.getId(), administrator.getClubName(), Role.ADMIN);
+        });
     }
 
     public LoginUser findApplicantAuthentication(String accessToken) {
-        jwtTokenProvider.validateAccessToken(accessToken);
-        validateApplicantAuthorization(accessToken);
-        String email = jwtTokenProvider.getPayload(accessToken);
-        Applicant applicant = applicantRepository.findByEmail(email)
-                .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
-        return new LoginUser(applicant.getId(), applicant.getEmail(), Role.APPLICANT);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+        validateAuthorization(verifiedToken, Role.APPLICANT);
+        return findApplicantLoginUser(verifiedToken.subject());
     }
 
-    private void validateApplicantAuthorization(String accessToken) {
-        Role role = jwtTokenProvider.getRole(accessToken);
-        if (role != Role.APPLICANT) {
+    private LoginUser findApplicantLoginUser(String email) {
+        return loginUserCache.getOrLoad(Role.APPLICANT, email, () -> {
+            Applicant applicant = applicantRepository.findByEmail(email)
+                    .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
+            return new LoginUser(applicant.getId(), applicant.getEmail(), Role.APPLICANT);
+        });
+    }
+
+    private void validateAuthorization(VerifiedToken verifiedToken, Role role) {
+        if (verifiedToken.role() != role) {
             throw new CrewsException(CrewsErrorCode.UNAUTHORIZED_USER);
         }
     }
 
     public LoginUser findAuthentication(String accessToken) {
-        jwtTokenProvider.validateAccessToken(accessToken);
-        Role role = jwtTokenProvider.getRole(accessToken);
-        String payload = jwtTokenProvider.getPayload(accessToken);
-        if (role == Role.APPLICANT) {
-            Applicant applicant = applicantRepository.findByEmail(payload)
-                    .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
-            return new LoginUser(applicant.getId(), applicant.getEmail(), Role.APPLICANT);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+        if (verifiedToken.role() == Role.APPLICANT) {
+            return findApplicantLoginUser(verifiedToken.subject());
         }
-        Administrator administrator = administratorRepository.findByClubName(payload)
-                .orElseThrow(() -> new CrewsException(CrewsErrorCode.USER_NOT_FOUND));
-        return new LoginUser(administrator.getId(), administrator.getClubName(), Role.ADMIN);
+        return findAdminLoginUser(verifiedToken.subject());
     }
 }
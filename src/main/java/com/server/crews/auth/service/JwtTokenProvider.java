@@ -5,10 +5,13 @@ import static io.jsonwebtoken.SignatureAlgorithm.HS384;
 
 import com.server.crews.auth.domain.RefreshToken;
 import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.domain.VerifiedToken;
 import com.server.crews.global.exception.CrewsErrorCode;
 import com.server.crews.global.exception.CrewsException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -26,16 +29,23 @@ public class JwtTokenProvider {
     private static final SignatureAlgorithm REFRESH_TOKEN_ALGORITHM = HS384;
 
     private final Key key;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidityInMilliseconds,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityInMilliseconds) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityInMilliseconds,
+            VerifiedTokenCache verifiedTokenCache) {
         this.key = decodeSecretKey(secret);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     private Key decodeSecretKey(String secret) {
@@ -66,45 +76,34 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getPayload(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public Role getRole(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Role.valueOf((String) claims.get("role"));
-    }
-
-    public void validateAccessToken(String token) {
-        if (!validateToken(token).equals(ACCESS_TOKEN_ALGORITHM)) {
+    public VerifiedToken verifyAccessToken(String token) {
+        VerifiedToken verifiedToken = verifiedTokenCache.getOrVerify(token, this::verify);
+        if (!verifiedToken.algorithm().equals(ACCESS_TOKEN_ALGORITHM)) {
             throw new CrewsException(CrewsErrorCode.INVALID_ACCESS_TOKEN);
         }
+        return verifiedToken;
     }
 
-    public void validateRefreshToken(String token) {
-        if (!validateToken(token).equals(REFRESH_TOKEN_ALGORITHM)) {
+    public VerifiedToken verifyRefreshToken(String token) {
+        VerifiedToken verifiedToken = verifiedTokenCache.getOrVerify(token, this::verify);
+        if (!verifiedToken.algorithm().equals(REFRESH_TOKEN_ALGORITHM)) {
             throw new CrewsException(CrewsErrorCode.INVALID_REFRESH_TOKEN);
         }
+        return verifiedToken;
     }
 
-    private SignatureAlgorithm validateToken(String token) {
+    /*
+        서명 검증과 헤더, 클레임 추출을 한 번의 파싱으로 처리한다.
+     */
+    private VerifiedToken verify(String token) {
         try {
-            String algorithm = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getHeader()
-                    .getAlgorithm();
-            return SignatureAlgorithm.forName(algorithm);
+            Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+            Claims claims = jws.getBody();
+            return new VerifiedToken(
+                    SignatureAlgorithm.forName(jws.getHeader().getAlgorithm()),
+                    Role.valueOf((String) claims.get("role")),
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant());
         } catch (MalformedJwtException e) {
             throw new CrewsException(CrewsErrorCode.MALFORMED_JWT);
         } catch (ExpiredJwtException e) {
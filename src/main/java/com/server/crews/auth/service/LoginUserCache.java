@@ -0,0 +1,59 @@
+package com.server.crews.auth.service;
+
+import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.dto.LoginUser;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.cache.CacheStats;
+import com.server.crews.global.cache.LruCache;
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    액세스 토큰의 (권한, 사용자 이름)으로 조회한 인증 사용자를 메모리에 저장해 요청마다 DB를 조회하지 않도록 한다.
+    로그아웃하면 해당 사용자 이름의 인증 정보를 무효화한다.
+ */
+@Component
+public class LoginUserCache {
+    private static final CustomLogger customLogger = new CustomLogger(LoginUserCache.class);
+
+    private final LruCache<PrincipalKey, LoginUser> loginUsers;
+
+    public LoginUserCache(
+            @Value("${auth.principal-cache.maximum-size:10000}") int maximumSize,
+            @Value("${auth.principal-cache.time-to-live:300000}") long timeToLiveInMilliseconds,
+            Clock clock) {
+        this.loginUsers = LruCache.withTimeToLive(maximumSize, timeToLiveInMilliseconds, clock);
+    }
+
+    public LoginUser getOrLoad(Role role, String username, Supplier<LoginUser> loader) {
+        return loginUsers.getOrLoad(new PrincipalKey(role, username), loader);
+    }
+
+    /*
+        리프레시 토큰은 사용자 이름으로만 저장되므로 모든 권한의 인증 정보를 무효화한다.
+     */
+    public void invalidate(String username) {
+        loginUsers.invalidateIf((key, loginUser) -> key.username().equals(username));
+    }
+
+    public void clear() {
+        loginUsers.clear();
+    }
+
+    public CacheStats stats() {
+        return loginUsers.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.principal-cache.stats-interval:600000}")
+    public void logStats() {
+        CacheStats stats = stats();
+        customLogger.info("login user cache - hits: {} misses: {} evictions: {} size: {}",
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.size());
+    }
+
+    private record PrincipalKey(Role role, String username) {
+    }
+}
@@ -2,6 +2,7 @@ package com.server.crews.auth.service;
 
 import com.server.crews.auth.domain.RefreshToken;
 import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.domain.VerifiedToken;
 import com.server.crews.auth.dto.response.TokenResponse;
 import com.server.crews.auth.repository.RefreshTokenRepository;
 import com.server.crews.global.exception.CrewsErrorCode;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class RefreshTokenManager implements RefreshTokenService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final LoginUserCache loginUserCache;
 
     @Override
     public RefreshToken createRefreshToken(Role role, String username) {
@@ -23,21 +25,21 @@ public class RefreshTokenManager implements RefreshTokenService {
 
     @Override
     public TokenResponse renew(String refreshToken) {
-        jwtTokenProvider.validateRefreshToken(refreshToken);
-        String username = jwtTokenProvider.getPayload(refreshToken);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        String username = verifiedToken.subject();
         RefreshToken savedRefreshToken = refreshTokenRepository.findById(username)
                 .orElseThrow(() -> new CrewsException(CrewsErrorCode.REFRESH_TOKEN_NOT_FOUND));
         if (!savedRefreshToken.isSameToken(refreshToken)) {
             throw new CrewsException(CrewsErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        Role role = jwtTokenProvider.getRole(refreshToken);
-        String accessToken = jwtTokenProvider.createAccessToken(role, username);
+        String accessToken = jwtTokenProvider.createAccessToken(verifiedToken.role(), username);
         return new TokenResponse(username, accessToken);
     }
 
     @Override
     public void delete(String username) {
+        loginUserCache.invalidate(username);
         refreshTokenRepository.deleteById(username);
     }
 }
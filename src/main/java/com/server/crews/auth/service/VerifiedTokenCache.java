@@ -0,0 +1,71 @@
+package com.server.crews.auth.service;
+
+import com.server.crews.auth.domain.VerifiedToken;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.cache.CacheStats;
+import com.server.crews.global.cache.LruCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    같은 토큰이 유효 기간 동안 반복해서 요청되므로 서명 검증 결과를 토큰의 해시값으로 저장한다.
+    만료 시간이 지난 토큰은 저장된 결과를 사용하지 않고 다시 검증해 만료 예외가 발생하도록 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final CustomLogger customLogger = new CustomLogger(VerifiedTokenCache.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final boolean enabled;
+    private final LruCache<String, VerifiedToken> verifiedTokens;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-token-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") int maximumSize,
+            Clock clock) {
+        this.enabled = enabled;
+        this.verifiedTokens = LruCache.withExpiration(maximumSize, clock, VerifiedToken::expiration);
+    }
+
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled || token == null) {
+            return verifier.apply(token);
+        }
+
+        return verifiedTokens.getOrLoad(digest(token), () -> verifier.apply(token));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("토큰 해시 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    public void clear() {
+        verifiedTokens.clear();
+    }
+
+    public CacheStats stats() {
+        return verifiedTokens.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verified-token-cache.stats-interval:600000}")
+    public void logStats() {
+        if (!enabled) {
+            return;
+        }
+        CacheStats stats = stats();
+        customLogger.info("verified token cache - hit rate: {} hits: {} misses: {} evictions: {} size: {}",
+                stats.hitRate(), stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.size());
+    }
+}
@@ -0,0 +1,12 @@
+package com.server.crews.external.application;
+
+public record EmailDeliveryStatus(Long applicationId, String email, boolean delivered, int attempts) {
+
+    public static EmailDeliveryStatus delivered(EmailRecipient recipient, int attempts) {
+        return new EmailDeliveryStatus(recipient.applicationId(), recipient.email(), true, attempts);
+    }
+
+    public static EmailDeliveryStatus failed(EmailRecipient recipient, int attempts) {
+        return new EmailDeliveryStatus(recipient.applicationId(), recipient.email(), false, attempts);
+    }
+}
@@ -0,0 +1,6 @@
+package com.server.crews.external.application;
+
+import com.server.crews.applicant.domain.Outcome;
+
+public record EmailRecipient(Long applicationId, String email, String name, Outcome outcome) {
+}
@@ -1,70 +1,130 @@
 package com.server.crews.external.application;
 
-import com.server.crews.applicant.domain.Application;
-import com.server.crews.applicant.domain.Outcome;
 import com.server.crews.global.CustomLogger;
-import com.server.crews.recruitment.domain.Recruitment;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+/*
+    전달받은 수신자에게 하나의 SMTP 연결로 메일을 발송한다.
+    발송에 실패한 메일만 지수 백오프로 재시도하고 수신자별 발송 결과를 남긴다.
+ */
 @Service
-@RequiredArgsConstructor
 public class EmailService {
     private static final CustomLogger customLogger = new CustomLogger(EmailService.class);
     private static final String TITLE = "[Crews] 지원 결과 발표";
 
     private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final OutcomeEmailRenderer outcomeEmailRenderer;
+    private final int maxAttempts;
+    private final long initialBackoffInMilliseconds;
+    private final double backoffMultiplier;
 
-    @Async("emailThreadPoolTaskExecutor")
-    public void sendBatch(List<Application> applications, Recruitment recruitment) {
-        List<MimeMessagePreparator> mimeMessagePreparators = applications.stream()
-                .map(application -> createMessage(application, recruitment))
-                .toList();
-        javaMailSender.send(mimeMessagePreparators.toArray(new MimeMessagePreparator[0]));
+    public EmailService(
+            JavaMailSender javaMailSender,
+            OutcomeEmailRenderer outcomeEmailRenderer,
+            @Value("${email.delivery.max-attempts:3}") int maxAttempts,
+            @Value("${email.delivery.initial-backoff:1000}") long initialBackoffInMilliseconds,
+            @Value("${email.delivery.backoff-multiplier:2}") double backoffMultiplier) {
+        this.javaMailSender = javaMailSender;
+        this.outcomeEmailRenderer = outcomeEmailRenderer;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffInMilliseconds = initialBackoffInMilliseconds;
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+    public List<EmailDeliveryStatus> deliver(List<EmailRecipient> recipients, OutcomeAnnouncement announcement) {
+        Map<MimeMessage, EmailRecipient> pendingMessages = createMessages(recipients, announcement);
+        List<EmailDeliveryStatus> deliveryStatuses = new ArrayList<>();
+        long backoffInMilliseconds = initialBackoffInMilliseconds;
 
-        String applicationIds = applications.stream()
-                .map(Application::getId)
-                .map(String::valueOf)
-                .collect(Collectors.joining(", "));
-        customLogger.info("send email - recruitment id: {} application ids: {}", recruitment.getId(), applicationIds);
+        for (int attempt = 1; !pendingMessages.isEmpty(); attempt++) {
+            Map<Object, Exception> failedMessages = send(pendingMessages);
+            Map<MimeMessage, EmailRecipient> retryMessages = new IdentityHashMap<>();
+            for (Map.Entry<MimeMessage, EmailRecipient> pendingMessage : pendingMessages.entrySet()) {
+                if (failedMessages.containsKey(pendingMessage.getKey())) {
+                    retryMessages.put(pendingMessage.getKey(), pendingMessage.getValue());
+                    continue;
+                }
+                deliveryStatuses.add(EmailDeliveryStatus.delivered(pendingMessage.getValue(), attempt));
+            }
+
+            if (!retryMessages.isEmpty() && (attempt >= maxAttempts || !waitForRetry(backoffInMilliseconds))) {
+                for (EmailRecipient recipient : retryMessages.values()) {
+                    deliveryStatuses.add(EmailDeliveryStatus.failed(recipient, attempt));
+                }
+                break;
+            }
+            pendingMessages = retryMessages;
+            backoffInMilliseconds = (long) (backoffInMilliseconds * backoffMultiplier);
+        }
+        return deliveryStatuses;
     }
 
-    private MimeMessagePreparator createMessage(Application application, Recruitment recruitment) {
-        Context context = prepareVariables(application, recruitment);
-        String htmlName = determineHtml(application.getOutcome());
+    /*
+        JavaMailSender는 한 번의 send 호출에서 하나의 연결로 모든 메일을 발송하고, 실패한 메일만 예외에 담아 반환한다.
+     */
+    private Map<Object, Exception> send(Map<MimeMessage, EmailRecipient> messages) {
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                return failAll(messages, e);
+            }
+            return e.getFailedMessages();
+        } catch (MailException e) {
+            return failAll(messages, e);
+        }
+    }
 
-        return mimeMessage -> {
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-            helper.setTo(application.getApplicant().getEmail());
-            helper.setSubject(TITLE);
-            String htmlContent = templateEngine.process(htmlName, context);
-            helper.setText(htmlContent, true);
-        };
+    private Map<Object, Exception> failAll(Map<MimeMessage, EmailRecipient> messages, Exception exception) {
+        customLogger.error(exception);
+        Map<Object, Exception> failedMessages = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failedMessages.put(message, exception));
+        return failedMessages;
+    }
+
+    private boolean waitForRetry(long backoffInMilliseconds) {
+        try {
+            Thread.sleep(backoffInMilliseconds);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
-    private Context prepareVariables(Application application, Recruitment recruitment) {
-        Context context = new Context();
-        context.setVariables(Map.of(
-                "name", application.getName(),
-                "recruitment", recruitment.getTitle(),
-                "club", recruitment.getPublisher().getClubName()));
-        return context;
+    private Map<MimeMessage, EmailRecipient> createMessages(List<EmailRecipient> recipients,
+                                                            OutcomeAnnouncement announcement) {
+        Map<MimeMessage, EmailRecipient> messages = new IdentityHashMap<>();
+        for (EmailRecipient recipient : recipients) {
+            messages.put(createMessage(recipient, announcement), recipient);
+        }
+        return messages;
     }
 
-    private String determineHtml(Outcome outcome) {
-        if (outcome.equals(Outcome.PASS)) {
-            return "pass-email";
+    private MimeMessage createMessage(EmailRecipient recipient, OutcomeAnnouncement announcement) {
+        try {
+            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            helper.setTo(recipient.email());
+            helper.setSubject(TITLE);
+            String htmlContent = outcomeEmailRenderer.render(recipient, announcement);
+            helper.setText(htmlContent, true);
+            return mimeMessage;
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
         }
-        return "fail-email";
     }
 }
@@ -0,0 +1,4 @@
+package com.server.crews.external.application;
+
+public record OutcomeAnnouncement(Long recruitmentId, String recruitmentTitle, String clubName) {
+}
@@ -0,0 +1,108 @@
+package com.server.crews.external.application;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import com.server.crews.external.domain.OutcomeEmail;
+import com.server.crews.global.CustomLogger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    저장된 결과 메일 발송 작업을 청크 단위로 점유해 발송한다.
+    메일 발송 스레드 풀의 크기만큼 작업자를 띄우고, 각 작업자는 남은 작업이 없을 때까지 반복한다.
+ */
+@Component
+public class OutcomeEmailDispatcher {
+    private static final CustomLogger customLogger = new CustomLogger(OutcomeEmailDispatcher.class);
+
+    private final OutcomeEmailOutbox outcomeEmailOutbox;
+    private final EmailService emailService;
+    private final Executor emailExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final AtomicInteger activeWorkerCount = new AtomicInteger();
+
+    public OutcomeEmailDispatcher(
+            OutcomeEmailOutbox outcomeEmailOutbox,
+            EmailService emailService,
+            @Qualifier("emailThreadPoolTaskExecutor") Executor emailExecutor,
+            @Value("${email.delivery.chunk-size:50}") int chunkSize,
+            @Value("${email.delivery.parallelism:6}") int parallelism) {
+        this.outcomeEmailOutbox = outcomeEmailOutbox;
+        this.emailService = emailService;
+        this.emailExecutor = emailExecutor;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:10000}")
+    public void dispatch() {
+        int workerCount = activeWorkerCount.get();
+        while (workerCount < parallelism) {
+            if (activeWorkerCount.compareAndSet(workerCount, workerCount + 1) && !startWorker()) {
+                return;
+            }
+            workerCount = activeWorkerCount.get();
+        }
+    }
+
+    private boolean startWorker() {
+        try {
+            emailExecutor.execute(this::drain);
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeWorkerCount.decrementAndGet();
+            return false;
+        }
+    }
+
+    private void drain() {
+        try {
+            List<OutcomeEmail> outcomeEmails = outcomeEmailOutbox.claim(chunkSize);
+            while (!outcomeEmails.isEmpty()) {
+                deliver(outcomeEmails);
+                outcomeEmails = outcomeEmailOutbox.claim(chunkSize);
+            }
+        } catch (RuntimeException e) {
+            customLogger.error(e);
+        } finally {
+            activeWorkerCount.decrementAndGet();
+        }
+    }
+
+    private void deliver(List<OutcomeEmail> outcomeEmails) {
+        Map<OutcomeAnnouncement, List<EmailRecipient>> recipientsByAnnouncement = outcomeEmails.stream()
+                .collect(groupingBy(this::toAnnouncement, LinkedHashMap::new, mapping(this::toRecipient, toList())));
+
+        for (Map.Entry<OutcomeAnnouncement, List<EmailRecipient>> recipients : recipientsByAnnouncement.entrySet()) {
+            List<EmailDeliveryStatus> deliveryStatuses = emailService.deliver(recipients.getValue(), recipients.getKey());
+            outcomeEmailOutbox.complete(deliveryStatuses);
+
+            long deliveredCount = deliveryStatuses.stream()
+                    .filter(EmailDeliveryStatus::delivered)
+                    .count();
+            customLogger.info("send outcome email - recruitment id: {} delivered: {} failed: {}",
+                    recipients.getKey().recruitmentId(), deliveredCount, deliveryStatuses.size() - deliveredCount);
+        }
+    }
+
+    private OutcomeAnnouncement toAnnouncement(OutcomeEmail outcomeEmail) {
+        return new OutcomeAnnouncement(outcomeEmail.getRecruitmentId(), outcomeEmail.getRecruitmentTitle(),
+                outcomeEmail.getClubName());
+    }
+
+    private EmailRecipient toRecipient(OutcomeEmail outcomeEmail) {
+        return new EmailRecipient(outcomeEmail.getApplicationId(), outcomeEmail.getEmail(), outcomeEmail.getName(),
+                outcomeEmail.getOutcome());
+    }
+}
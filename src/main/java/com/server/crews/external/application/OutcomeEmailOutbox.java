@@ -0,0 +1,72 @@
+package com.server.crews.external.application;
+
+import com.server.crews.external.domain.OutcomeEmail;
+import com.server.crews.external.domain.OutcomeEmailStatus;
+import com.server.crews.external.repository.OutcomeEmailRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    지원 결과 메일 발송 작업을 저장하고, 여러 서버가 겹치지 않게 나누어 가져가도록 점유한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OutcomeEmailOutbox {
+    private final OutcomeEmailRepository outcomeEmailRepository;
+    private final Clock clock;
+    private final long leaseInMilliseconds;
+    private final int maxAttempts;
+
+    public OutcomeEmailOutbox(
+            OutcomeEmailRepository outcomeEmailRepository,
+            Clock clock,
+            @Value("${email.outbox.lease:600000}") long leaseInMilliseconds,
+            @Value("${email.outbox.max-attempts:3}") int maxAttempts) {
+        this.outcomeEmailRepository = outcomeEmailRepository;
+        this.clock = clock;
+        this.leaseInMilliseconds = leaseInMilliseconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /*
+        지원 결과 발표 트랜잭션 안에서 호출되어 발표와 함께 커밋된다.
+     */
+    @Transactional
+    public int saveAll(Long recruitmentId) {
+        return outcomeEmailRepository.saveAllByRecruitmentId(recruitmentId, LocalDateTime.now(clock));
+    }
+
+    @Transactional
+    public List<OutcomeEmail> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutcomeEmail> outcomeEmails = outcomeEmailRepository.findAllPendingForUpdate(now, batchSize);
+        LocalDateTime leaseExpiresAt = now.plusNanos(leaseInMilliseconds * 1_000_000);
+        outcomeEmails.forEach(outcomeEmail -> outcomeEmail.claim(leaseExpiresAt, maxAttempts));
+        return outcomeEmails.stream()
+                .filter(OutcomeEmail::isPending)
+                .toList();
+    }
+
+    @Transactional
+    public void complete(List<EmailDeliveryStatus> deliveryStatuses) {
+        List<Long> sentApplicationIds = filterApplicationIds(deliveryStatuses, true);
+        List<Long> failedApplicationIds = filterApplicationIds(deliveryStatuses, false);
+        if (!sentApplicationIds.isEmpty()) {
+            outcomeEmailRepository.updateStatusByApplicationIdIn(OutcomeEmailStatus.SENT, sentApplicationIds);
+        }
+        if (!failedApplicationIds.isEmpty()) {
+            outcomeEmailRepository.updateStatusByApplicationIdIn(OutcomeEmailStatus.FAILED, failedApplicationIds);
+        }
+    }
+
+    private List<Long> filterApplicationIds(List<EmailDeliveryStatus> deliveryStatuses, boolean delivered) {
+        return deliveryStatuses.stream()
+                .filter(deliveryStatus -> deliveryStatus.delivered() == delivered)
+                .map(EmailDeliveryStatus::applicationId)
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.crews.external.application;
+
+import com.server.crews.applicant.domain.Outcome;
+import com.server.crews.global.cache.LruCache;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.unbescape.html.HtmlEscape;
+
+/*
+    수신자마다 달라지는 값은 이름뿐이므로 결과 메일 템플릿을 모집 공고와 결과별로 한 번만 렌더링한다.
+    이름 자리에 자리 표시자를 넣어 렌더링한 뒤, 수신자마다 th:text와 같은 방식으로 이스케이프한 이름을 끼워 넣는다.
+ */
+@Component
+public class OutcomeEmailRenderer {
+    private static final String NAME_SLOT = "CREWSNAMESLOT";
+
+    private final SpringTemplateEngine templateEngine;
+    private final LruCache<TemplateKey, List<String>> fragments;
+
+    public OutcomeEmailRenderer(
+            SpringTemplateEngine templateEngine,
+            @Value("${email.template-cache.maximum-size:100}") int maximumSize) {
+        this.templateEngine = templateEngine;
+        this.fragments = LruCache.withoutExpiration(maximumSize);
+    }
+
+    public String render(EmailRecipient recipient, OutcomeAnnouncement announcement) {
+        TemplateKey key = new TemplateKey(announcement, recipient.outcome());
+        List<String> renderedFragments = fragments.getOrLoad(key, () -> renderFragments(key));
+        return String.join(HtmlEscape.escapeHtml4Xml(recipient.name()), renderedFragments);
+    }
+
+    private List<String> renderFragments(TemplateKey key) {
+        Context context = prepareVariables(key.announcement());
+        String html = templateEngine.process(determineHtml(key.outcome()), context);
+        return Arrays.asList(html.split(Pattern.quote(NAME_SLOT), -1));
+    }
+
+    private Context prepareVariables(OutcomeAnnouncement announcement) {
+        Context context = new Context();
+        context.setVariables(Map.of(
+                "name", NAME_SLOT,
+                "recruitment", announcement.recruitmentTitle(),
+                "club", announcement.clubName()));
+        return context;
+    }
+
+    private String determineHtml(Outcome outcome) {
+        if (outcome.equals(Outcome.PASS)) {
+            return "pass-email";
+        }
+        return "fail-email";
+    }
+
+    private record TemplateKey(OutcomeAnnouncement announcement, Outcome outcome) {
+    }
+}
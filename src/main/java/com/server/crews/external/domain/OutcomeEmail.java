@@ -0,0 +1,82 @@
+package com.server.crews.external.domain;
+
+import com.server.crews.applicant.domain.Outcome;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    지원 결과 발표와 같은 트랜잭션에서 저장되는 수신자별 결과 메일 발송 작업이다.
+ */
+@Getter
+@Entity
+@Table(name = "outcome_email",
+        indexes = {
+                @Index(columnList = "application_id", name = "uk_application_id", unique = true),
+                @Index(columnList = "status, next_attempt_at", name = "idx_status_next_attempt_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutcomeEmail {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "email", nullable = false, length = 30)
+    private String email;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "outcome", nullable = false)
+    private Outcome outcome;
+
+    @Column(name = "recruitment_title", nullable = false, length = 30)
+    private String recruitmentTitle;
+
+    @Column(name = "club_name", nullable = false, length = 30)
+    private String clubName;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutcomeEmailStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /*
+        발송 중 서버가 종료되어도 점유 기한이 지나면 다른 서버가 다시 가져갈 수 있다.
+        최대 시도 횟수를 넘긴 작업은 실패로 처리한다.
+     */
+    public void claim(LocalDateTime leaseExpiresAt, int maxAttempts) {
+        if (attempts >= maxAttempts) {
+            this.status = OutcomeEmailStatus.FAILED;
+            return;
+        }
+        this.attempts++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public boolean isPending() {
+        return status == OutcomeEmailStatus.PENDING;
+    }
+}
@@ -0,0 +1,7 @@
+package com.server.crews.external.domain;
+
+public enum OutcomeEmailStatus {
+    PENDING,
+    SENT,
+    FAILED;
+}
@@ -1,11 +1,11 @@
 package com.server.crews.external.event;
 
-import com.server.crews.applicant.domain.Application;
 import com.server.crews.applicant.event.OutcomeDeterminedEvent;
-import com.server.crews.external.application.EmailService;
-import com.server.crews.recruitment.domain.Recruitment;
-import java.util.List;
+import com.server.crews.external.application.OutcomeEmailDispatcher;
+import com.server.crews.external.application.OutcomeEmailOutbox;
+import com.server.crews.global.CustomLogger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,15 +13,22 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Component
 @RequiredArgsConstructor
 public class EmailEventListener {
-    private final EmailService emailService;
+    private static final CustomLogger customLogger = new CustomLogger(EmailEventListener.class);
+
+    private final OutcomeEmailOutbox outcomeEmailOutbox;
+    private final OutcomeEmailDispatcher outcomeEmailDispatcher;
+
+    /*
+        발송 작업은 지원 결과 발표 트랜잭션 안에서 저장해 발표와 함께 커밋되거나 롤백된다.
+     */
+    @EventListener(OutcomeDeterminedEvent.class)
+    public void saveEmailsToApplicants(OutcomeDeterminedEvent event) {
+        int savedCount = outcomeEmailOutbox.saveAll(event.recruitmentId());
+        customLogger.info("save outcome emails - recruitment id: {} count: {}", event.recruitmentId(), savedCount);
+    }
 
     @TransactionalEventListener(value = OutcomeDeterminedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
     public void sendEmailToApplicants(OutcomeDeterminedEvent event) {
-        Recruitment recruitment = event.recruitment();
-        List<Application> applications = event.applications();
-
-        int middleIndex = applications.size() / 2;
-        emailService.sendBatch(applications.subList(0, middleIndex), recruitment);
-        emailService.sendBatch(applications.subList(middleIndex, applications.size()), recruitment);
+        outcomeEmailDispatcher.dispatch();
     }
 }
@@ -0,0 +1,46 @@
+package com.server.crews.external.repository;
+
+import com.server.crews.external.domain.OutcomeEmail;
+import com.server.crews.external.domain.OutcomeEmailStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutcomeEmailRepository extends JpaRepository<OutcomeEmail, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into outcome_email (recruitment_id, application_id, email, name, outcome,
+                                       recruitment_title, club_name, status, attempts, next_attempt_at)
+            select a.recruitment_id, a.id, ap.email, a.name, a.outcome, r.title, ad.club_name, 'PENDING', 0, :now
+            from application a
+            join applicant ap on ap.id = a.applicant_id
+            join recruitment r on r.id = a.recruitment_id
+            join administrator ad on ad.id = r.publisher_id
+            where a.recruitment_id = :recruitmentId
+            """, nativeQuery = true)
+    int saveAllByRecruitmentId(@Param("recruitmentId") Long recruitmentId, @Param("now") LocalDateTime now);
+
+    @Query(value = """
+            select * from outcome_email
+            where status = 'PENDING' and next_attempt_at <= :now
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutcomeEmail> findAllPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            update OutcomeEmail o set o.status = :status
+            where o.applicationId in :applicationIds
+            """)
+    int updateStatusByApplicationIdIn(@Param("status") OutcomeEmailStatus status,
+                                      @Param("applicationIds") Collection<Long> applicationIds);
+
+    List<OutcomeEmail> findAllByRecruitmentId(Long recruitmentId);
+}
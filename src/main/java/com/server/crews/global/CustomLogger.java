@@ -50,4 +50,8 @@ public class CustomLogger {
     public void info(String var1, Object... var2) {
         logger.info(var1, var2);
     }
+
+    public void debug(String var1, Object... var2) {
+        logger.debug(var1, var2);
+    }
 }
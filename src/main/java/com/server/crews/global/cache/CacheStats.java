@@ -0,0 +1,12 @@
+package com.server.crews.global.cache;
+
+public record CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) hitCount / requestCount;
+    }
+}
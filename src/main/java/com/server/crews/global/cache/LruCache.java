@@ -0,0 +1,135 @@
+package com.server.crews.global.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/*
+    최대 크기를 넘으면 가장 오래 사용되지 않은 값부터 제거하는 메모리 캐시이다.
+    값마다 만료 시각을 두며, 무효화 중에 조회된 값은 세대(generation) 비교로 저장하지 않는다.
+ */
+public class LruCache<K, V> {
+    private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+    private final int maximumSize;
+    private final Clock clock;
+    private final ExpirationPolicy<V> expirationPolicy;
+    private final Map<K, CachedValue<V>> values;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private LruCache(int maximumSize, Clock clock, ExpirationPolicy<V> expirationPolicy) {
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.expirationPolicy = expirationPolicy;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                boolean exceeded = size() > LruCache.this.maximumSize;
+                if (exceeded) {
+                    evictionCount.incrementAndGet();
+                }
+                return exceeded;
+            }
+        };
+    }
+
+    public static <K, V> LruCache<K, V> withTimeToLive(int maximumSize, long timeToLiveInMilliseconds,
+                                                       Clock clock) {
+        return new LruCache<>(maximumSize, clock, (value, now) -> now + timeToLiveInMilliseconds);
+    }
+
+    public static <K, V> LruCache<K, V> withExpiration(int maximumSize, Clock clock,
+                                                       Function<V, Instant> expirationExtractor) {
+        return new LruCache<>(maximumSize, clock, (value, now) -> expirationExtractor.apply(value).toEpochMilli());
+    }
+
+    public static <K, V> LruCache<K, V> withoutExpiration(int maximumSize) {
+        return new LruCache<>(maximumSize, Clock.systemUTC(), (value, now) -> NEVER_EXPIRES);
+    }
+
+    public V getOrLoad(K key, Supplier<V> loader) {
+        return getOrLoad(key, loader, value -> true);
+    }
+
+    public V getOrLoad(K key, Supplier<V> loader, Predicate<V> cacheable) {
+        V cachedValue = find(key);
+        if (cachedValue != null) {
+            hitCount.incrementAndGet();
+            return cachedValue;
+        }
+
+        missCount.incrementAndGet();
+        long loadedGeneration = generation.get();
+        V value = loader.get();
+        if (cacheable.test(value)) {
+            putIfNotInvalidated(key, value, loadedGeneration);
+        }
+        return value;
+    }
+
+    private V find(K key) {
+        synchronized (values) {
+            CachedValue<V> cachedValue = values.get(key);
+            if (cachedValue == null) {
+                return null;
+            }
+            if (cachedValue.isExpired(clock.millis())) {
+                values.remove(key);
+                evictionCount.incrementAndGet();
+                return null;
+            }
+            return cachedValue.value();
+        }
+    }
+
+    private void putIfNotInvalidated(K key, V value, long loadedGeneration) {
+        synchronized (values) {
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+            values.put(key, new CachedValue<>(value, expirationPolicy.expiresAt(value, clock.millis())));
+        }
+    }
+
+    public void invalidateIf(BiPredicate<K, V> condition) {
+        synchronized (values) {
+            generation.incrementAndGet();
+            values.entrySet().removeIf(entry -> condition.test(entry.getKey(), entry.getValue().value()));
+        }
+    }
+
+    public void clear() {
+        synchronized (values) {
+            generation.incrementAndGet();
+            values.clear();
+        }
+    }
+
+    public CacheStats stats() {
+        synchronized (values) {
+            return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), values.size());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExpirationPolicy<V> {
+
+        long expiresAt(V value, long now);
+    }
+
+    private record CachedValue<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
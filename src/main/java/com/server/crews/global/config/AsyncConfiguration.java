@@ -4,6 +4,7 @@ import com.server.crews.global.exception.AsyncExceptionHandler;
 import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,13 +24,28 @@ public class AsyncConfiguration implements AsyncConfigurer {
     }
 
     @Bean(name = "emailThreadPoolTaskExecutor")
-    public Executor emailThreadPoolTaskExecutor() {
+    public Executor emailThreadPoolTaskExecutor(
+            @Value("${email.delivery.parallelism:6}") int parallelism,
+            @Value("${email.delivery.queue-capacity:1000}") int queueCapacity) {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-        threadPoolTaskExecutor.setCorePoolSize(6);
-        threadPoolTaskExecutor.setMaxPoolSize(6);
-        threadPoolTaskExecutor.setQueueCapacity(300);
+        threadPoolTaskExecutor.setCorePoolSize(parallelism);
+        threadPoolTaskExecutor.setMaxPoolSize(parallelism);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
         threadPoolTaskExecutor.setThreadNamePrefix("Async-Email-");
         threadPoolTaskExecutor.initialize();
         return threadPoolTaskExecutor;
     }
+
+    @Bean(name = "recruitmentStateThreadPoolTaskExecutor")
+    public Executor recruitmentStateThreadPoolTaskExecutor(
+            @Value("${recruitment.state-stream.parallelism:4}") int parallelism,
+            @Value("${recruitment.state-stream.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(parallelism);
+        threadPoolTaskExecutor.setMaxPoolSize(parallelism);
+        threadPoolTaskExecutor.setQueueCapacity(queueCapacity);
+        threadPoolTaskExecutor.setThreadNamePrefix("Recruitment-State-");
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
 }
@@ -0,0 +1,21 @@
+package com.server.crews.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+    @Scheduled 작업들이 하나의 스레드를 나눠 쓰면 오래 걸리는 작업이 다른 작업을 지연시키므로 스레드 풀에서 실행한다.
+ */
+@Configuration
+public class SchedulingConfiguration {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("Scheduled-Task-");
+        return taskScheduler;
+    }
+}
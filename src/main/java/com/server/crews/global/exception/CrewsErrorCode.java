@@ -35,6 +35,14 @@ public enum CrewsErrorCode {
     ANSWER_REQUIRED(HttpStatus.BAD_REQUEST, "필수 문항의 답변이 없습니다.", 1023),
     EXCEED_WORD_LIMIT_ANSWER(HttpStatus.BAD_REQUEST, "서술형 문항의 글자수 제한을 초과했습니다.", 1024),
     SELECTION_COUNT_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "선택한 항목의 개수가 허용 범위를 벗어났습니다.", 1025),
+    INVALID_APPLICATION_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 지원서 목록 커서입니다.", 1029),
+    TOO_MANY_APPLICATION_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 지원서 개수를 초과했습니다.", 1030),
+    CHOICE_NOT_IN_QUESTION(HttpStatus.BAD_REQUEST, "선택형 문항에 속하지 않는 선택지입니다.", 1031),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1자 이상 255자 이하여야 합니다.", 1032),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key입니다.", 1033),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", 1034),
+
+    TOO_MANY_APPLICATION_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "지원서 저장 요청이 많습니다. 잠시 후 다시 시도해주세요.", 1028),
     ;
 
     private final HttpStatus httpStatus;
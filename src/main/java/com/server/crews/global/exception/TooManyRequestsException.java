@@ -0,0 +1,13 @@
+package com.server.crews.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends CrewsException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(CrewsErrorCode crewsErrorCode, long retryAfterSeconds) {
+        super(crewsErrorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
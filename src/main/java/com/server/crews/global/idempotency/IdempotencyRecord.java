@@ -0,0 +1,19 @@
+package com.server.crews.global.idempotency;
+
+/*
+    요청 본문의 fingerprint와 처리가 끝난 요청의 응답 본문(JSON)을 담는다. 처리 중이면 응답 본문은 없다.
+ */
+public record IdempotencyRecord(String fingerprint, boolean completed, String response) {
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, false, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, String response) {
+        return new IdempotencyRecord(fingerprint, true, response);
+    }
+
+    public boolean hasSameFingerprint(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+}
@@ -0,0 +1,71 @@
+package com.server.crews.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    Idempotency-Key별 처리 상태를 만료 시간이 있는 Redis 문자열로 저장한다.
+    처리 중 상태는 SET NX로 한 요청만 선점하고, 처리에 실패하면 자신이 선점한 상태만 지워 재시도할 수 있게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
+    private static final RedisScript<Long> DELETE_IF_UNCHANGED = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 같은 키로 처리 중이거나 처리가 끝난 요청이 없으면 처리 중 상태로 선점하고 true를 반환한다.
+     */
+    public boolean claim(String key, IdempotencyRecord record, Duration timeToLive) {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(redisKey(key), serialize(record), timeToLive);
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(redisKey(key)))
+                .map(this::deserialize);
+    }
+
+    public void save(String key, IdempotencyRecord record, Duration timeToLive) {
+        redisTemplate.opsForValue().set(redisKey(key), serialize(record), timeToLive);
+    }
+
+    public void release(String key, IdempotencyRecord record) {
+        redisTemplate.execute(DELETE_IF_UNCHANGED, List.of(redisKey(key)), serialize(record));
+    }
+
+    private String redisKey(String key) {
+        return IDEMPOTENCY_KEY_PREFIX + key;
+    }
+
+    private String serialize(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("멱등성 기록을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private IdempotencyRecord deserialize(String record) {
+        try {
+            return objectMapper.readValue(record, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 기록을 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.server.crews.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import jakarta.annotation.Nullable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+    Idempotency-Key 헤더가 있는 요청을 키별로 한 번만 처리한다.
+    처리가 끝난 요청과 같은 키, 같은 본문으로 다시 요청하면 저장된 응답을 DB 접근 없이 그대로 반환한다.
+    처리 중인 요청과 같은 키로 요청하면 새로 처리하지 않고 먼저 온 요청의 응답이 저장될 때까지 기다린다.
+    처리에 실패하면 키를 해제하므로 같은 키로 재시도할 수 있다.
+ */
+@Component
+public class IdempotentExecutor {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAXIMUM_KEY_LENGTH = 255;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration timeToLive;
+    private final Duration inProgressTimeToLive;
+    private final long pollIntervalInMilliseconds;
+    private final long maximumWaitInMilliseconds;
+
+    public IdempotentExecutor(
+            IdempotencyRepository idempotencyRepository,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.time-to-live:86400000}") long timeToLiveInMilliseconds,
+            @Value("${idempotency.in-progress-time-to-live:60000}") long inProgressTimeToLiveInMilliseconds,
+            @Value("${idempotency.poll-interval:50}") long pollIntervalInMilliseconds,
+            @Value("${idempotency.maximum-wait:10000}") long maximumWaitInMilliseconds) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.timeToLive = Duration.ofMillis(timeToLiveInMilliseconds);
+        this.inProgressTimeToLive = Duration.ofMillis(inProgressTimeToLiveInMilliseconds);
+        this.pollIntervalInMilliseconds = pollIntervalInMilliseconds;
+        this.maximumWaitInMilliseconds = maximumWaitInMilliseconds;
+    }
+
+    /**
+     * 키가 없으면 바로 처리한다. scope는 API와 요청자를 구분해 서로 다른 요청자의 키가 충돌하지 않도록 한다.
+     */
+    public <T> T execute(@Nullable String idempotencyKey, String scope, @Nullable Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        validate(idempotencyKey);
+        String key = scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long waitUntil = System.currentTimeMillis() + maximumWaitInMilliseconds;
+
+        while (true) {
+            IdempotencyRecord inProgressRecord = IdempotencyRecord.inProgress(fingerprint);
+            if (idempotencyRepository.claim(key, inProgressRecord, inProgressTimeToLive)) {
+                return executeClaimed(key, inProgressRecord, responseType, action);
+            }
+
+            Optional<IdempotencyRecord> record = idempotencyRepository.findByKey(key);
+            if (record.isPresent()) {
+                if (!record.get().hasSameFingerprint(fingerprint)) {
+                    throw new CrewsException(CrewsErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (record.get().completed()) {
+                    return deserialize(record.get().response(), responseType);
+                }
+            }
+            if (System.currentTimeMillis() >= waitUntil) {
+                throw new CrewsException(CrewsErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    public void execute(@Nullable String idempotencyKey, String scope, @Nullable Object request, Runnable action) {
+        execute(idempotencyKey, scope, request, Void.class, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T executeClaimed(String key, IdempotencyRecord inProgressRecord, Class<T> responseType,
+                                 Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(key, inProgressRecord);
+            throw e;
+        }
+        IdempotencyRecord completedRecord = IdempotencyRecord.completed(inProgressRecord.fingerprint(),
+                serialize(response));
+        idempotencyRepository.save(key, completedRecord, timeToLive);
+        return response;
+    }
+
+    private void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAXIMUM_KEY_LENGTH) {
+            throw new CrewsException(CrewsErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    private String fingerprint(@Nullable Object request) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("요청 본문의 fingerprint를 계산할 수 없습니다.", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalInMilliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CrewsException(CrewsErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("응답 본문을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T deserialize(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 본문을 역직렬화할 수 없습니다.", e);
+        }
+    }
+}
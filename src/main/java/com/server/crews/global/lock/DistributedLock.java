@@ -0,0 +1,44 @@
+package com.server.crews.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/*
+    여러 서버 중 한 곳에서만 작업이 실행되도록 Redis에 만료 시간이 있는 lease를 저장한다.
+    작업이 중간에 종료되어도 lease가 만료되면 다른 서버가 다시 획득할 수 있고, 자신이 획득한 lease만 해제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DistributedLock {
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final RedisScript<Long> RELEASE_IF_OWNED = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * lease를 획득하면 해제할 때 사용할 토큰을 반환하고, 다른 곳에서 이미 획득했다면 빈 값을 반환한다.
+     */
+    public Optional<String> tryAcquire(String name, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + name, token, leaseTime);
+        if (Boolean.TRUE.equals(acquired)) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    public void release(String name, String token) {
+        redisTemplate.execute(RELEASE_IF_OWNED, List.of(LOCK_KEY_PREFIX + name), token);
+    }
+}
@@ -2,32 +2,39 @@ package com.server.crews.recruitment.controller;
 
 import com.server.crews.auth.controller.AdminAuthentication;
 import com.server.crews.auth.dto.LoginUser;
+import com.server.crews.global.idempotency.IdempotentExecutor;
 import com.server.crews.recruitment.dto.request.DeadlineUpdateRequest;
 import com.server.crews.recruitment.dto.request.RecruitmentSaveRequest;
 import com.server.crews.recruitment.dto.response.RecruitmentDetailsResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentProgressResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentSearchResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentStateInProgressResponse;
+import com.server.crews.recruitment.service.RecruitmentDetailsResponseCache.SerializedRecruitmentDetails;
 import com.server.crews.recruitment.service.RecruitmentService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping(value = "/recruitments")
 @RequiredArgsConstructor
 public class RecruitmentController {
     private final RecruitmentService recruitmentService;
+    private final IdempotentExecutor idempotentExecutor;
 
     /**
      * 모집 공고 상세 정보를 저장한다.
@@ -68,6 +75,14 @@ public class RecruitmentController {
         return ResponseEntity.ok(recruitmentService.findRecruitmentStateInProgress(loginUser.userId()));
     }
 
+    /**
+     * 모집 단계와 지원서 수가 바뀔 때마다 모집 상태를 SSE로 전송한다.
+     */
+    @GetMapping(value = "/in-progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecruitmentState(@AdminAuthentication LoginUser loginUser) {
+        return recruitmentService.subscribeRecruitmentState(loginUser.userId());
+    }
+
     /**
      * 작성중인 모집 공고 상세 정보를 조회한다.
      */
@@ -82,11 +97,17 @@ public class RecruitmentController {
 
     /**
      * 모집 공고 상세 정보를 모집 공고 코드로 조회한다.
+     * 직렬화된 응답을 ETag와 함께 반환하며, If-None-Match가 일치하면 304를 반환한다.
      */
     @GetMapping
-    public ResponseEntity<RecruitmentDetailsResponse> getRecruitmentDetailsByCode(
-            @RequestParam(value = "code") String code) {
-        return ResponseEntity.ok(recruitmentService.findRecruitmentDetailsByCode(code));
+    public ResponseEntity<byte[]> getRecruitmentDetailsByCode(@RequestParam(value = "code") String code) {
+        SerializedRecruitmentDetails recruitmentDetails = recruitmentService.findSerializedRecruitmentDetailsByCode(
+                code);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(recruitmentDetails.eTag())
+                .body(recruitmentDetails.body());
     }
 
 
@@ -120,11 +141,14 @@ public class RecruitmentController {
     }
 
     /**
-     * 모든 지원자에게 지원 결과 메일을 전송한다.
+     * 모든 지원자에게 지원 결과 메일을 전송한다. Idempotency-Key 헤더가 같은 재시도 요청은 다시 발표하지 않는다.
      */
     @PostMapping("/announcement")
-    public ResponseEntity<Void> sendOutcomeEmail(@AdminAuthentication LoginUser loginUser) {
-        recruitmentService.announceRecruitmentOutcome(loginUser.userId());
+    public ResponseEntity<Void> sendOutcomeEmail(
+            @AdminAuthentication LoginUser loginUser,
+            @RequestHeader(value = IdempotentExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        idempotentExecutor.execute(idempotencyKey, "announcement:" + loginUser.userId(), null,
+                () -> recruitmentService.announceRecruitmentOutcome(loginUser.userId()));
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,4 @@
+package com.server.crews.recruitment.domain;
+
+public record ClosingRecruitment(Long id, String code) {
+}
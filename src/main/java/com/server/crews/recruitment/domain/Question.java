@@ -3,6 +3,8 @@ package com.server.crews.recruitment.domain;
 public interface Question extends Comparable<Question> {
     Long getId();
 
+    String getContent();
+
     Integer getOrder();
 
     Long getSectionId();
@@ -38,7 +38,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
                 @Index(columnList = "publisher_id", name = "idx_publisher_id"),
                 @Index(columnList = "code", name = "idx_code"),
                 @Index(columnList = "title", name = "idx_title"),
-                @Index(columnList = "deadline, progress", name = "idx_deadline_progress")
+                @Index(columnList = "progress, deadline", name = "idx_progress_deadline")
         }
 )
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,6 @@
+package com.server.crews.recruitment.domain;
+
+import java.time.LocalDateTime;
+
+public record RecruitmentDeadline(Long id, LocalDateTime deadline) {
+}
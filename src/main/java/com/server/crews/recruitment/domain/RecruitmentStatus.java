@@ -0,0 +1,14 @@
+package com.server.crews.recruitment.domain;
+
+import java.time.LocalDateTime;
+
+public record RecruitmentStatus(RecruitmentProgress progress, LocalDateTime deadline) {
+
+    public boolean isStarted() {
+        return progress != RecruitmentProgress.READY;
+    }
+
+    public boolean isInProgressAt(LocalDateTime now) {
+        return progress == RecruitmentProgress.IN_PROGRESS && deadline.isAfter(now);
+    }
+}
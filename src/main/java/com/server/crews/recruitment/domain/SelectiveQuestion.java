@@ -104,8 +104,9 @@ public class SelectiveQuestion implements Question {
     }
 
     public List<Choice> getOrderedChoices() {
-        Collections.sort(choices);
-        return choices;
+        List<Choice> orderedChoices = new ArrayList<>(choices);
+        Collections.sort(orderedChoices);
+        return orderedChoices;
     }
 
     public Long getSectionId() {
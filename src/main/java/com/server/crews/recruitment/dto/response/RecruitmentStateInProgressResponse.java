@@ -4,7 +4,10 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 
 public record RecruitmentStateInProgressResponse(
-        int applicationCount,
+        long applicationCount,
+        long passCount,
+        long failCount,
+        long pendingCount,
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
         LocalDateTime deadline,
         String code
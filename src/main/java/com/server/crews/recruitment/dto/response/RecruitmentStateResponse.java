@@ -0,0 +1,17 @@
+package com.server.crews.recruitment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import java.time.LocalDateTime;
+
+public record RecruitmentStateResponse(
+        RecruitmentProgress progress,
+        long applicationCount,
+        long passCount,
+        long failCount,
+        long pendingCount,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        LocalDateTime deadline,
+        String code
+) {
+}
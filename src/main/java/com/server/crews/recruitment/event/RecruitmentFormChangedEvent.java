@@ -0,0 +1,4 @@
+package com.server.crews.recruitment.event;
+
+public record RecruitmentFormChangedEvent(Long recruitmentId) {
+}
@@ -1,13 +1,20 @@
 package com.server.crews.recruitment.repository;
 
+import com.server.crews.recruitment.domain.ClosingRecruitment;
 import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentDeadline;
 import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.domain.RecruitmentStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RecruitmentRepository extends JpaRepository<Recruitment, Long> {
 
@@ -45,5 +52,53 @@ public interface RecruitmentRepository extends JpaRepository<Recruitment, Long>
             """)
     Optional<Recruitment> findWithSectionsByTitle(@Param("title") String title);
 
-    List<Recruitment> findByDeadlineLessThanEqualAndProgressNot(LocalDateTime deadline, RecruitmentProgress progress);
+    @Query("""
+            select new com.server.crews.recruitment.domain.ClosingRecruitment(r.id, r.code)
+            from Recruitment r
+            where r.progress = :progress
+            and r.deadline <= :deadline
+            and r.id > :lastRecruitmentId
+            order by r.id
+            """)
+    List<ClosingRecruitment> findAllToBeClosed(@Param("progress") RecruitmentProgress progress,
+                                               @Param("deadline") LocalDateTime deadline,
+                                               @Param("lastRecruitmentId") Long lastRecruitmentId,
+                                               Pageable pageable);
+
+    @Query("""
+            select new com.server.crews.recruitment.domain.ClosingRecruitment(r.id, r.code)
+            from Recruitment r
+            where r.id = :recruitmentId
+            and r.progress = :progress
+            and r.deadline <= :deadline
+            """)
+    Optional<ClosingRecruitment> findToBeClosedById(@Param("recruitmentId") Long recruitmentId,
+                                                    @Param("progress") RecruitmentProgress progress,
+                                                    @Param("deadline") LocalDateTime deadline);
+
+    @Query("""
+            select new com.server.crews.recruitment.domain.RecruitmentDeadline(r.id, r.deadline)
+            from Recruitment r
+            where r.progress = :progress
+            """)
+    List<RecruitmentDeadline> findAllDeadlinesByProgress(@Param("progress") RecruitmentProgress progress);
+
+    @Query("""
+            select new com.server.crews.recruitment.domain.RecruitmentStatus(r.progress, r.deadline)
+            from Recruitment r
+            where r.id = :recruitmentId
+            """)
+    Optional<RecruitmentStatus> findStatusById(@Param("recruitmentId") Long recruitmentId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Recruitment r
+            set r.progress = :progress
+            where r.id in :recruitmentIds
+            and r.progress = :currentProgress
+            """)
+    int updateProgressByIdInAndProgress(@Param("recruitmentIds") Collection<Long> recruitmentIds,
+                                        @Param("currentProgress") RecruitmentProgress currentProgress,
+                                        @Param("progress") RecruitmentProgress progress);
 }
@@ -9,10 +9,16 @@ import org.springframework.data.repository.query.Param;
 public interface SectionRepository extends JpaRepository<Section, Long> {
 
     @Query("""
-            select s from Section s
+            select distinct s from Section s
             left join fetch s.narrativeQuestions
+            where s.recruitment.id = :recruitmentId
+            """)
+    List<Section> findAllWithNarrativeQuestionsByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
+
+    @Query("""
+            select distinct s from Section s
             left join fetch s.selectiveQuestions
             where s.recruitment.id = :recruitmentId
             """)
-    List<Section> findAllWithQuestionsByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
+    List<Section> findAllWithSelectiveQuestionsByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
 }
@@ -1,7 +1,17 @@
 package com.server.crews.recruitment.repository;
 
 import com.server.crews.recruitment.domain.SelectiveQuestion;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SelectiveQuestionRepository extends JpaRepository<SelectiveQuestion, Long> {
+
+    @Query("""
+            select distinct sq from SelectiveQuestion sq
+            left join fetch sq.choices
+            where sq.section.recruitment.id = :recruitmentId
+            """)
+    List<SelectiveQuestion> findAllWithChoicesByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
 }
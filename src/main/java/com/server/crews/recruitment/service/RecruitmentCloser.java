@@ -0,0 +1,154 @@
+package com.server.crews.recruitment.service;
+
+import com.server.crews.applicant.service.ApplicationDraftFlusher;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.lock.DistributedLock;
+import com.server.crews.recruitment.domain.ClosingRecruitment;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/*
+    마감 기한이 지난 모집 중인 모집 공고를 id 순으로 일정 개수씩 나누어 update 문으로 마감한다.
+    모집 중인 모집 공고만 마감하므로 여러 번 실행해도 결과가 같고, 여러 서버에서 동시에 실행되지 않도록 lease를 획득한 서버만 실행한다.
+    마감 기한마다 예약된 단건 마감과 주기적인 마감이 같은 모집 공고를 함께 마감하지 않도록, 모집 공고별 lease를 획득한 모집 공고만 마감한다.
+    마감한 뒤 캐시된 모집 공고를 무효화해 새 임시 저장을 막고, 그 전에 임시 저장된 지원서를 반영한다.
+ */
+@Component
+public class RecruitmentCloser {
+    private static final CustomLogger customLogger = new CustomLogger(RecruitmentCloser.class);
+    private static final String LOCK_NAME = "closing_recruitments";
+    private static final String RECRUITMENT_LOCK_NAME_PREFIX = "closing_recruitment:";
+
+    private final RecruitmentRepository recruitmentRepository;
+    private final ApplicationDraftFlusher applicationDraftFlusher;
+    private final DistributedLock distributedLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration leaseTime;
+
+    public RecruitmentCloser(
+            RecruitmentRepository recruitmentRepository,
+            ApplicationDraftFlusher applicationDraftFlusher,
+            DistributedLock distributedLock,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            @Value("${recruitment.closing.batch-size:100}") int batchSize,
+            @Value("${recruitment.closing.lease-time:600000}") long leaseTimeInMilliseconds) {
+        this.recruitmentRepository = recruitmentRepository;
+        this.applicationDraftFlusher = applicationDraftFlusher;
+        this.distributedLock = distributedLock;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.leaseTime = Duration.ofMillis(leaseTimeInMilliseconds);
+    }
+
+    /**
+     * 마감한 모집 공고 수와 실행 시간을 반환한다. 다른 서버에서 실행 중이면 실행하지 않는다.
+     */
+    public ClosingResult closeExpiredRecruitments() {
+        Optional<String> lease = distributedLock.tryAcquire(LOCK_NAME, leaseTime);
+        if (lease.isEmpty()) {
+            customLogger.info("closeRecruitments - skipped: lease held by another instance");
+            return ClosingResult.SKIPPED;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            int closedCount = closeAllDueBy(LocalDateTime.now(clock));
+            ClosingResult result = new ClosingResult(true, closedCount,
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            customLogger.info("closeRecruitments - closedCount: {} durationMillis: {}", result.closedCount(),
+                    result.durationMillis());
+            return result;
+        } finally {
+            distributedLock.release(LOCK_NAME, lease.get());
+        }
+    }
+
+    /**
+     * 마감 기한이 변경되지 않았고 아직 모집 중인 경우에만 모집 공고 하나를 마감한다.
+     */
+    public boolean closeIfDue(Long recruitmentId, LocalDateTime deadline) {
+        int closedCount = recruitmentRepository.findToBeClosedById(recruitmentId, RecruitmentProgress.IN_PROGRESS,
+                        deadline)
+                .map(recruitment -> close(List.of(recruitment)))
+                .orElse(0);
+        customLogger.info("closeRecruitment - recruitmentId: {} closedCount: {}", recruitmentId, closedCount);
+        return closedCount > 0;
+    }
+
+    private int closeAllDueBy(LocalDateTime now) {
+        int closedCount = 0;
+        Long lastRecruitmentId = 0L;
+        List<ClosingRecruitment> recruitments = findNextBatch(now, lastRecruitmentId);
+        while (!recruitments.isEmpty()) {
+            closedCount += close(recruitments);
+            lastRecruitmentId = recruitments.get(recruitments.size() - 1).id();
+            recruitments = findNextBatch(now, lastRecruitmentId);
+        }
+        return closedCount;
+    }
+
+    private List<ClosingRecruitment> findNextBatch(LocalDateTime now, Long lastRecruitmentId) {
+        return recruitmentRepository.findAllToBeClosed(RecruitmentProgress.IN_PROGRESS, now, lastRecruitmentId,
+                PageRequest.of(0, batchSize));
+    }
+
+    private int close(List<ClosingRecruitment> recruitments) {
+        Map<ClosingRecruitment, String> leases = acquireLeases(recruitments);
+        if (leases.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<Long> recruitmentIds = leases.keySet()
+                    .stream()
+                    .map(ClosingRecruitment::id)
+                    .toList();
+            int closedCount = recruitmentRepository.updateProgressByIdInAndProgress(recruitmentIds,
+                    RecruitmentProgress.IN_PROGRESS, RecruitmentProgress.COMPLETION);
+            recruitmentIds.forEach(recruitmentId ->
+                    eventPublisher.publishEvent(new RecruitmentFormChangedEvent(recruitmentId)));
+            leases.keySet().forEach(recruitment -> applicationDraftFlusher.flush(recruitment.code()));
+            return closedCount;
+        } finally {
+            leases.forEach((recruitment, token) ->
+                    distributedLock.release(recruitmentLockName(recruitment.id()), token));
+        }
+    }
+
+    /*
+    다른 곳에서 lease를 획득한 모집 공고는 그곳에서 마감하므로 건너뛴다.
+     */
+    private Map<ClosingRecruitment, String> acquireLeases(List<ClosingRecruitment> recruitments) {
+        Map<ClosingRecruitment, String> leases = new LinkedHashMap<>();
+        for (ClosingRecruitment recruitment : recruitments) {
+            distributedLock.tryAcquire(recruitmentLockName(recruitment.id()), leaseTime)
+                    .ifPresentOrElse(token -> leases.put(recruitment, token),
+                            () -> customLogger.info("closeRecruitment - recruitmentId: {} skipped: lease held by "
+                                    + "another instance", recruitment.id()));
+        }
+        return leases;
+    }
+
+    private String recruitmentLockName(Long recruitmentId) {
+        return RECRUITMENT_LOCK_NAME_PREFIX + recruitmentId;
+    }
+
+    public record ClosingResult(boolean executed, int closedCount, long durationMillis) {
+        static final ClosingResult SKIPPED = new ClosingResult(false, 0, 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.server.crews.recruitment.service;
+
+import com.server.crews.global.CustomLogger;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentDeadline;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import com.server.crews.recruitment.event.RecruitmentProgressChangedEvent;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    모집 중인 모집 공고의 마감 기한마다 마감 작업을 예약해, 마감 기한이 되면 해당 모집 공고만 바로 마감한다.
+    예약은 마감 기한 순으로 정렬된 큐에 보관되어 다음 마감 기한까지 대기하며, 전체 모집 공고를 주기적으로 조회하지 않는다.
+    서버가 시작될 때 모집 중인 모집 공고를 모두 예약하고, 모집 시작과 마감 기한 변경 이후 다시 예약한다.
+    예약이 유실되더라도 주기적인 마감 작업이 마감하지 못한 모집 공고를 마감한다.
+ */
+@Component
+public class RecruitmentDeadlineScheduler {
+    private static final CustomLogger customLogger = new CustomLogger(RecruitmentDeadlineScheduler.class);
+
+    private final RecruitmentRepository recruitmentRepository;
+    private final RecruitmentCloser recruitmentCloser;
+    private final Clock clock;
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final Map<Long, ScheduledClosing> scheduledClosings = new ConcurrentHashMap<>();
+
+    public RecruitmentDeadlineScheduler(RecruitmentRepository recruitmentRepository,
+                                        RecruitmentCloser recruitmentCloser, Clock clock) {
+        this.recruitmentRepository = recruitmentRepository;
+        this.recruitmentCloser = recruitmentCloser;
+        this.clock = clock;
+        this.taskScheduler = new ThreadPoolTaskScheduler();
+        this.taskScheduler.setPoolSize(1);
+        this.taskScheduler.setRemoveOnCancelPolicy(true);
+        this.taskScheduler.setThreadNamePrefix("Recruitment-Deadline-");
+        this.taskScheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleAll() {
+        List<RecruitmentDeadline> deadlines = recruitmentRepository.findAllDeadlinesByProgress(
+                RecruitmentProgress.IN_PROGRESS);
+        deadlines.forEach(deadline -> schedule(deadline.id(), deadline.deadline()));
+        customLogger.info("scheduleRecruitmentDeadlines - scheduledCount: {}", deadlines.size());
+    }
+
+    @TransactionalEventListener(value = RecruitmentProgressChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void reschedule(RecruitmentProgressChangedEvent event) {
+        reschedule(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = RecruitmentFormChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void reschedule(RecruitmentFormChangedEvent event) {
+        reschedule(event.recruitmentId());
+    }
+
+    public void reschedule(Long recruitmentId) {
+        recruitmentRepository.findById(recruitmentId)
+                .filter(Recruitment::isInProgress)
+                .ifPresentOrElse(recruitment -> schedule(recruitment.getId(), recruitment.getDeadline()),
+                        () -> cancel(recruitmentId));
+    }
+
+    public boolean isScheduled(Long recruitmentId) {
+        return scheduledClosings.containsKey(recruitmentId);
+    }
+
+    private void schedule(Long recruitmentId, LocalDateTime deadline) {
+        scheduledClosings.compute(recruitmentId, (id, scheduledClosing) -> {
+            if (scheduledClosing != null) {
+                if (scheduledClosing.deadline().equals(deadline)) {
+                    return scheduledClosing;
+                }
+                scheduledClosing.future().cancel(false);
+            }
+            ScheduledFuture<?> future = taskScheduler.schedule(() -> close(recruitmentId, deadline),
+                    deadline.atZone(clock.getZone()).toInstant());
+            return new ScheduledClosing(deadline, future);
+        });
+    }
+
+    private void cancel(Long recruitmentId) {
+        ScheduledClosing scheduledClosing = scheduledClosings.remove(recruitmentId);
+        if (scheduledClosing != null) {
+            scheduledClosing.future().cancel(false);
+        }
+    }
+
+    private void close(Long recruitmentId, LocalDateTime deadline) {
+        try {
+            recruitmentCloser.closeIfDue(recruitmentId, deadline);
+        } catch (RuntimeException e) {
+            customLogger.error(e);
+        } finally {
+            scheduledClosings.computeIfPresent(recruitmentId, (id, scheduledClosing) ->
+                    scheduledClosing.deadline().equals(deadline) ? null : scheduledClosing);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+
+    private record ScheduledClosing(LocalDateTime deadline, ScheduledFuture<?> future) {
+    }
+}
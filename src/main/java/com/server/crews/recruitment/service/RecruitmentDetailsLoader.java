@@ -5,6 +5,7 @@ import com.server.crews.recruitment.domain.Recruitment;
 import com.server.crews.recruitment.domain.Section;
 import com.server.crews.recruitment.repository.RecruitmentRepository;
 import com.server.crews.recruitment.repository.SectionRepository;
+import com.server.crews.recruitment.repository.SelectiveQuestionRepository;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -15,35 +16,56 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RecruitmentDetailsLoader {
+    private static final String CODE_KEY_PREFIX = "code:";
+    private static final String TITLE_KEY_PREFIX = "title:";
+    private static final String PUBLISHER_KEY_PREFIX = "publisher:";
+
     private final RecruitmentRepository recruitmentRepository;
     private final SectionRepository sectionRepository;
+    private final SelectiveQuestionRepository selectiveQuestionRepository;
+    private final RecruitmentFormCache recruitmentFormCache;
 
     public Recruitment findWithSectionsByCode(String code) {
-        Recruitment recruitment = recruitmentRepository.findWithSectionsByCode(code)
-                .orElseThrow(() -> new NotFoundException("모집 공고 코드", "모집 공고"));
-        return fetchQuestions(recruitment);
+        return recruitmentFormCache.getOrLoad(CODE_KEY_PREFIX + code, () -> {
+            Recruitment recruitment = recruitmentRepository.findWithSectionsByCode(code)
+                    .orElseThrow(() -> new NotFoundException("모집 공고 코드", "모집 공고"));
+            return fetchQuestions(recruitment);
+        });
     }
 
     public Recruitment findWithSectionsByTitle(String title) {
-        Recruitment recruitment = recruitmentRepository.findWithSectionsByTitle(title)
-                .orElseThrow(() -> new NotFoundException("모집 공고 제목", "모집 공고"));
-        return fetchQuestions(recruitment);
+        return recruitmentFormCache.getOrLoad(TITLE_KEY_PREFIX + title, () -> {
+            Recruitment recruitment = recruitmentRepository.findWithSectionsByTitle(title)
+                    .orElseThrow(() -> new NotFoundException("모집 공고 제목", "모집 공고"));
+            return fetchQuestions(recruitment);
+        });
     }
 
     public Recruitment findWithSectionsByPublisherId(Long publisherId) {
-        Recruitment recruitment = recruitmentRepository.findWithSectionsByPublisherId(publisherId)
-                .orElseThrow(() -> new NotFoundException("동아리 관리자 id", "모집 공고"));
-        return fetchQuestions(recruitment);
+        return recruitmentFormCache.getOrLoad(PUBLISHER_KEY_PREFIX + publisherId, () -> {
+            Recruitment recruitment = recruitmentRepository.findWithSectionsByPublisherId(publisherId)
+                    .orElseThrow(() -> new NotFoundException("동아리 관리자 id", "모집 공고"));
+            return fetchQuestions(recruitment);
+        });
     }
 
+    /*
+    작성 중인 모집 공고 조회에 사용되므로 캐시를 거치지 않는다.
+     */
     public Optional<Recruitment> findNullableWithSectionsByPublisherId(Long publisherId) {
         return recruitmentRepository.findWithSectionsByPublisherId(publisherId)
                 .map(this::fetchQuestions);
     }
 
+    /*
+    서술형 문항, 선택형 문항, 선택지를 각각 별도의 쿼리로 조회한다.
+    한 쿼리에서 여러 컬렉션을 fetch join하면 행 수가 곱으로 늘어나므로, 영속성 컨텍스트에서 조립한다.
+     */
     private Recruitment fetchQuestions(Recruitment recruitment) {
         Long recruitmentId = recruitment.getId();
-        List<Section> sections = sectionRepository.findAllWithQuestionsByRecruitmentId(recruitmentId);
+        List<Section> sections = sectionRepository.findAllWithNarrativeQuestionsByRecruitmentId(recruitmentId);
+        sectionRepository.findAllWithSelectiveQuestionsByRecruitmentId(recruitmentId);
+        selectiveQuestionRepository.findAllWithChoicesByRecruitmentId(recruitmentId);
         recruitment.replaceSectionsWithFetchedData(sections);
         return recruitment;
     }
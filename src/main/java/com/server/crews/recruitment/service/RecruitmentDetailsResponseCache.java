@@ -0,0 +1,80 @@
+package com.server.crews.recruitment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.cache.CacheStats;
+import com.server.crews.global.cache.LruCache;
+import com.server.crews.recruitment.dto.response.RecruitmentDetailsResponse;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/*
+    모집 중인 모집 공고 상세 정보를 직렬화된 JSON 바이트와 ETag로 저장한다.
+    캐시된 응답은 엔티티 조회, 정렬, 직렬화를 모두 거치지 않는다.
+ */
+@Component
+public class RecruitmentDetailsResponseCache {
+    private static final CustomLogger customLogger = new CustomLogger(RecruitmentDetailsResponseCache.class);
+
+    private final LruCache<String, SerializedRecruitmentDetails> responses;
+    private final ObjectMapper objectMapper;
+
+    public RecruitmentDetailsResponseCache(
+            @Value("${recruitment.response-cache.maximum-size:300}") int maximumSize,
+            @Value("${recruitment.response-cache.time-to-live:600000}") long timeToLiveInMilliseconds,
+            Clock clock,
+            ObjectMapper objectMapper) {
+        this.responses = LruCache.withTimeToLive(maximumSize, timeToLiveInMilliseconds, clock);
+        this.objectMapper = objectMapper;
+    }
+
+    public SerializedRecruitmentDetails getOrRender(String code, Supplier<RecruitmentDetailsResponse> loader) {
+        return responses.getOrLoad(code, () -> serialize(loader.get()));
+    }
+
+    private SerializedRecruitmentDetails serialize(RecruitmentDetailsResponse response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new SerializedRecruitmentDetails(response.id(), body, eTag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모집 공고 상세 정보를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(value = RecruitmentFormChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void invalidate(RecruitmentFormChangedEvent event) {
+        invalidate(event.recruitmentId());
+    }
+
+    public void invalidate(Long recruitmentId) {
+        responses.invalidateIf((key, value) -> value.recruitmentId().equals(recruitmentId));
+    }
+
+    public void clear() {
+        responses.clear();
+    }
+
+    public CacheStats stats() {
+        return responses.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${recruitment.response-cache.stats-interval:600000}")
+    public void logStats() {
+        CacheStats stats = stats();
+        customLogger.info("recruitment response cache - hits: {} misses: {} evictions: {} size: {}",
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.size());
+    }
+
+    public record SerializedRecruitmentDetails(Long recruitmentId, byte[] body, String eTag) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.server.crews.recruitment.service;
+
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.cache.CacheStats;
+import com.server.crews.global.cache.LruCache;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    모집이 시작된 지원서 양식은 변경되지 않으므로 섹션, 질문, 선택지까지 조회된 모집 공고를 메모리에 저장한다.
+    모집 공고가 변경되면 커밋 이후 무효화한다.
+ */
+@Component
+public class RecruitmentFormCache {
+    private static final CustomLogger customLogger = new CustomLogger(RecruitmentFormCache.class);
+
+    private final LruCache<String, Recruitment> forms;
+
+    public RecruitmentFormCache(
+            @Value("${recruitment.form-cache.maximum-size:300}") int maximumSize,
+            @Value("${recruitment.form-cache.time-to-live:600000}") long timeToLiveInMilliseconds,
+            Clock clock) {
+        this.forms = LruCache.withTimeToLive(maximumSize, timeToLiveInMilliseconds, clock);
+    }
+
+    public Recruitment getOrLoad(String key, Supplier<Recruitment> loader) {
+        return forms.getOrLoad(key, loader, Recruitment::isStarted);
+    }
+
+    @TransactionalEventListener(value = RecruitmentFormChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void invalidate(RecruitmentFormChangedEvent event) {
+        invalidate(event.recruitmentId());
+    }
+
+    public void invalidate(Long recruitmentId) {
+        forms.invalidateIf((key, value) -> value.getId().equals(recruitmentId));
+    }
+
+    public void clear() {
+        forms.clear();
+    }
+
+    public CacheStats stats() {
+        return forms.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${recruitment.form-cache.stats-interval:600000}")
+    public void logStats() {
+        CacheStats stats = stats();
+        customLogger.info("recruitment form cache - hits: {} misses: {} evictions: {} size: {}",
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.size());
+    }
+}
@@ -1,13 +1,12 @@
 package com.server.crews.recruitment.service;
 
-import static java.util.stream.Collectors.joining;
-
-import com.server.crews.applicant.domain.Application;
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.domain.Outcome;
 import com.server.crews.applicant.event.OutcomeDeterminedEvent;
 import com.server.crews.applicant.repository.ApplicationRepository;
+import com.server.crews.applicant.service.ApplicationCounter;
 import com.server.crews.auth.domain.Administrator;
 import com.server.crews.auth.repository.AdministratorRepository;
-import com.server.crews.global.CustomLogger;
 import com.server.crews.global.exception.CrewsErrorCode;
 import com.server.crews.global.exception.CrewsException;
 import com.server.crews.global.exception.NotFoundException;
@@ -19,8 +18,11 @@ import com.server.crews.recruitment.dto.response.RecruitmentDetailsResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentProgressResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentSearchResponse;
 import com.server.crews.recruitment.dto.response.RecruitmentStateInProgressResponse;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import com.server.crews.recruitment.event.RecruitmentProgressChangedEvent;
 import com.server.crews.recruitment.mapper.RecruitmentMapper;
 import com.server.crews.recruitment.repository.RecruitmentRepository;
+import com.server.crews.recruitment.service.RecruitmentDetailsResponseCache.SerializedRecruitmentDetails;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,22 +34,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class RecruitmentService {
-    private static final CustomLogger customLogger = new CustomLogger(RecruitmentService.class);
 
     private final RecruitmentRepository recruitmentRepository;
     private final RecruitmentDetailsLoader recruitmentDetailsLoader;
+    private final RecruitmentDetailsResponseCache recruitmentDetailsResponseCache;
     private final RediSearchRecruitmentSearchService recruitmentSearchService;
     private final AdministratorRepository administratorRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApplicationCounter applicationCounter;
+    private final RecruitmentStateStream recruitmentStateStream;
+    private final RecruitmentCloser recruitmentCloser;
     private final ApplicationEventPublisher eventPublisher;
-    private final Clock clock;
 
     @Transactional
     public RecruitmentDetailsResponse saveRecruitment(Long publisherId, RecruitmentSaveRequest request) {
@@ -57,6 +63,7 @@ public class RecruitmentService {
         setCode(recruitment);
         validateDeadline(recruitment.getDeadline());
         Recruitment savedRecruitment = recruitmentRepository.save(recruitment);
+        eventPublisher.publishEvent(new RecruitmentFormChangedEvent(savedRecruitment.getId()));
         return RecruitmentMapper.recruitmentToRecruitmentDetailsResponse(savedRecruitment);
     }
 
@@ -93,16 +100,22 @@ public class RecruitmentService {
         }
         recruitment.start();
         recruitmentSearchService.saveRecruitment(recruitment);
+        eventPublisher.publishEvent(new RecruitmentProgressChangedEvent(recruitment.getId()));
     }
 
     public RecruitmentStateInProgressResponse findRecruitmentStateInProgress(Long publisherId) {
         Recruitment recruitment = recruitmentRepository.findByPublisher(publisherId)
                 .orElseThrow(() -> new NotFoundException("동아리 관리자 id", "모집 공고"));
-        int applicationCount = applicationRepository.countAllByRecruitment(recruitment);
-        return new RecruitmentStateInProgressResponse(applicationCount, recruitment.getDeadline(),
+        ApplicationCounts applicationCounts = applicationCounter.findByRecruitmentId(recruitment.getId());
+        return new RecruitmentStateInProgressResponse(applicationCounts.totalCount(), applicationCounts.passCount(),
+                applicationCounts.failCount(), applicationCounts.pendingCount(), recruitment.getDeadline(),
                 recruitment.getCode());
     }
 
+    public SseEmitter subscribeRecruitmentState(Long publisherId) {
+        return recruitmentStateStream.subscribe(publisherId);
+    }
+
     public Optional<RecruitmentDetailsResponse> findRecruitmentDetailsInReady(Long publisherId) {
         return recruitmentDetailsLoader.findNullableWithSectionsByPublisherId(publisherId)
                 .map(RecruitmentMapper::recruitmentToRecruitmentDetailsResponse);
@@ -116,6 +129,10 @@ public class RecruitmentService {
         return RecruitmentMapper.recruitmentToRecruitmentDetailsResponse(recruitment);
     }
 
+    public SerializedRecruitmentDetails findSerializedRecruitmentDetailsByCode(String code) {
+        return recruitmentDetailsResponseCache.getOrRender(code, () -> findRecruitmentDetailsByCode(code));
+    }
+
     public RecruitmentDetailsResponse findRecruitmentDetailsByTitle(String title) {
         Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByTitle(title);
         if (!recruitment.isStarted()) {
@@ -140,21 +157,16 @@ public class RecruitmentService {
             throw new CrewsException(CrewsErrorCode.INVALID_MODIFIED_DEADLINE);
         }
         recruitment.updateDeadline(modifiedDeadline);
+        eventPublisher.publishEvent(new RecruitmentFormChangedEvent(recruitment.getId()));
     }
 
-    @Transactional
+    /*
+    마감 작업은 모집 공고를 나누어 각각의 트랜잭션에서 마감하므로 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Scheduled(cron = "${schedules.cron.closing-recruitment}")
     public void closeRecruitments() {
-        LocalDateTime now = LocalDateTime.now(clock);
-        List<Recruitment> recruitmentsToBeClosed = recruitmentRepository.findByDeadlineLessThanEqualAndProgressNot(now,
-                RecruitmentProgress.ANNOUNCED);
-        recruitmentsToBeClosed.forEach(Recruitment::close);
-
-        String closedRecruitmentIds = recruitmentsToBeClosed.stream()
-                .map(Recruitment::getId)
-                .map(String::valueOf)
-                .collect(joining(" "));
-        customLogger.info("closeRecruitments - closedRecruitmentIds: {}", closedRecruitmentIds);
+        recruitmentCloser.closeExpiredRecruitments();
     }
 
     @Transactional
@@ -164,11 +176,11 @@ public class RecruitmentService {
         if (recruitment.isAnnounced()) {
             throw new CrewsException(CrewsErrorCode.ALREADY_ANNOUNCED);
         }
-        List<Application> applications = applicationRepository.findAllByRecruitmentWithApplicant(recruitment);
-        applications.stream().filter(Application::isNotDetermined)
-                .forEach(Application::reject);
+        applicationRepository.updateOutcomeByRecruitmentIdAndOutcome(recruitment.getId(), Outcome.PENDING,
+                Outcome.FAIL);
 
-        eventPublisher.publishEvent(new OutcomeDeterminedEvent(applications, recruitment));
+        eventPublisher.publishEvent(new OutcomeDeterminedEvent(recruitment.getId()));
         recruitment.announce();
+        eventPublisher.publishEvent(new RecruitmentFormChangedEvent(recruitment.getId()));
     }
 }
@@ -0,0 +1,266 @@
+package com.server.crews.recruitment.service;
+
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.event.ApplicationCreatedEvent;
+import com.server.crews.applicant.event.OutcomeChangedEvent;
+import com.server.crews.applicant.event.OutcomeDeterminedEvent;
+import com.server.crews.applicant.service.ApplicationCounter;
+import com.server.crews.global.CustomLogger;
+import com.server.crews.global.exception.NotFoundException;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.dto.response.RecruitmentStateResponse;
+import com.server.crews.recruitment.event.RecruitmentFormChangedEvent;
+import com.server.crews.recruitment.event.RecruitmentProgressChangedEvent;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+    모집 단계와 지원서 수를 구독 중인 관리자에게 SSE로 전송한다.
+    변경 이벤트는 모집 공고 id만 표시해 두고 주기적으로 한 번씩 모아 보내므로, 짧은 시간에 지원서가 몰려도 모집 공고마다 한 번만 조회한다.
+    매번 전체 상태를 보내므로 연결마다 최신 상태 하나만 보관해 두고, 전용 스레드 풀에서 전송한다.
+    전송이 send-timeout보다 오래 걸리는 연결은 뒤처진 것으로 보고 종료해, 느린 연결이 스케줄러나 다른 연결의 전송을 막지 않도록 한다.
+    다른 서버에서 발생한 변경은 주기적인 갱신으로 반영된다.
+ */
+@Component
+public class RecruitmentStateStream {
+    private static final CustomLogger customLogger = new CustomLogger(RecruitmentStateStream.class);
+    private static final String STATE_EVENT_NAME = "recruitment-state";
+    private static final long IDLE = 0L;
+
+    private final RecruitmentRepository recruitmentRepository;
+    private final ApplicationCounter applicationCounter;
+    private final Executor executor;
+    private final long timeoutInMilliseconds;
+    private final long sendTimeoutInMilliseconds;
+    private final Map<Long, Set<Subscription>> subscriptionsByRecruitmentId = new ConcurrentHashMap<>();
+    private final Set<Long> changedRecruitmentIds = ConcurrentHashMap.newKeySet();
+
+    public RecruitmentStateStream(
+            RecruitmentRepository recruitmentRepository,
+            ApplicationCounter applicationCounter,
+            @Qualifier("recruitmentStateThreadPoolTaskExecutor") Executor executor,
+            @Value("${recruitment.state-stream.timeout:1800000}") long timeoutInMilliseconds,
+            @Value("${recruitment.state-stream.send-timeout:5000}") long sendTimeoutInMilliseconds) {
+        this.recruitmentRepository = recruitmentRepository;
+        this.applicationCounter = applicationCounter;
+        this.executor = executor;
+        this.timeoutInMilliseconds = timeoutInMilliseconds;
+        this.sendTimeoutInMilliseconds = sendTimeoutInMilliseconds;
+    }
+
+    public SseEmitter subscribe(Long publisherId) {
+        Recruitment recruitment = recruitmentRepository.findByPublisher(publisherId)
+                .orElseThrow(() -> new NotFoundException("동아리 관리자 id", "모집 공고"));
+        SseEmitter emitter = new SseEmitter(timeoutInMilliseconds);
+        register(recruitment.getId(), emitter).offer(state(recruitment));
+        return emitter;
+    }
+
+    Subscription register(Long recruitmentId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(recruitmentId, emitter);
+        subscriptionsByRecruitmentId.compute(recruitmentId, (id, subscriptions) -> {
+            Set<Subscription> registeredSubscriptions =
+                    subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+            registeredSubscriptions.add(subscription);
+            return registeredSubscriptions;
+        });
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(exception -> unregister(subscription));
+        return subscription;
+    }
+
+    private void unregister(Subscription subscription) {
+        subscriptionsByRecruitmentId.computeIfPresent(subscription.recruitmentId, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    @TransactionalEventListener(value = ApplicationCreatedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void markChanged(ApplicationCreatedEvent event) {
+        markChanged(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = OutcomeChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void markChanged(OutcomeChangedEvent event) {
+        markChanged(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = OutcomeDeterminedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void markChanged(OutcomeDeterminedEvent event) {
+        markChanged(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = RecruitmentFormChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void markChanged(RecruitmentFormChangedEvent event) {
+        markChanged(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(value = RecruitmentProgressChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void markChanged(RecruitmentProgressChangedEvent event) {
+        markChanged(event.recruitmentId());
+    }
+
+    private void markChanged(Long recruitmentId) {
+        if (subscriptionsByRecruitmentId.containsKey(recruitmentId)) {
+            changedRecruitmentIds.add(recruitmentId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recruitment.state-stream.flush-interval:1000}")
+    public void flush() {
+        dropStalledSubscriptions();
+        Iterator<Long> recruitmentIds = changedRecruitmentIds.iterator();
+        while (recruitmentIds.hasNext()) {
+            Long recruitmentId = recruitmentIds.next();
+            recruitmentIds.remove();
+            publish(recruitmentId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recruitment.state-stream.refresh-interval:30000}")
+    public void refresh() {
+        subscriptionsByRecruitmentId.keySet().forEach(this::publish);
+        customLogger.info("recruitment state stream - recruitments: {} subscriptions: {}",
+                subscriptionsByRecruitmentId.size(), subscriptionCount());
+    }
+
+    public int subscriptionCount() {
+        return subscriptionsByRecruitmentId.values()
+                .stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private void dropStalledSubscriptions() {
+        long now = System.currentTimeMillis();
+        subscriptionsByRecruitmentId.values()
+                .forEach(subscriptions -> subscriptions.stream()
+                        .filter(subscription -> subscription.isStalled(now, sendTimeoutInMilliseconds))
+                        .forEach(Subscription::dropStalled));
+    }
+
+    private void publish(Long recruitmentId) {
+        Set<Subscription> subscriptions = subscriptionsByRecruitmentId.get(recruitmentId);
+        if (subscriptions == null) {
+            return;
+        }
+        recruitmentRepository.findById(recruitmentId)
+                .map(this::state)
+                .ifPresent(state -> subscriptions.forEach(subscription -> subscription.offer(state)));
+    }
+
+    private RecruitmentStateResponse state(Recruitment recruitment) {
+        ApplicationCounts applicationCounts = applicationCounter.findByRecruitmentId(recruitment.getId());
+        return new RecruitmentStateResponse(recruitment.getProgress(), applicationCounts.totalCount(),
+                applicationCounts.passCount(), applicationCounts.failCount(), applicationCounts.pendingCount(),
+                recruitment.getDeadline(), recruitment.getCode());
+    }
+
+    /*
+    연결마다 아직 보내지 않은 최신 상태 하나만 보관한다. 전송 중에 새 상태가 들어오면 이전 상태를 덮어쓰고,
+    전송이 끝난 뒤 남아 있는 최신 상태를 이어서 보낸다.
+     */
+    class Subscription {
+        private final Long recruitmentId;
+        private final SseEmitter emitter;
+        private final AtomicReference<RecruitmentStateResponse> latestState = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile long sendStartedAt = IDLE;
+
+        private Subscription(Long recruitmentId, SseEmitter emitter) {
+            this.recruitmentId = recruitmentId;
+            this.emitter = emitter;
+        }
+
+        void offer(RecruitmentStateResponse state) {
+            latestState.set(state);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                drop();
+            }
+        }
+
+        private void drain() {
+            RecruitmentStateResponse state;
+            while ((state = latestState.getAndSet(null)) != null) {
+                if (!send(state)) {
+                    return;
+                }
+            }
+            draining.set(false);
+            if (latestState.get() != null) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean send(RecruitmentStateResponse state) {
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(STATE_EVENT_NAME)
+                        .data(state));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                unregister(this);
+                emitter.completeWithError(e);
+                return false;
+            } finally {
+                sendStartedAt = IDLE;
+            }
+        }
+
+        private boolean isStalled(long now, long sendTimeoutInMilliseconds) {
+            long startedAt = sendStartedAt;
+            return startedAt != IDLE && now - startedAt > sendTimeoutInMilliseconds;
+        }
+
+        private void drop() {
+            unregister(this);
+            emitter.complete();
+        }
+
+        /*
+        전송 중인 스레드가 연결을 잡고 있으므로 스케줄러 스레드가 함께 막히지 않도록 종료도 전용 스레드 풀에서 처리한다.
+        스레드 풀이 가득 찼다면 연결의 timeout으로 정리되도록 구독만 해제한다.
+         */
+        private void dropStalled() {
+            unregister(this);
+            try {
+                executor.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                customLogger.error(e);
+            }
+        }
+    }
+}
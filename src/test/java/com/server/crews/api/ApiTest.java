@@ -12,10 +12,12 @@ import com.server.crews.applicant.dto.request.AnswerSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSectionSaveRequest;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
+import com.server.crews.applicant.service.ApplicationManager;
 import com.server.crews.auth.dto.request.AdminLoginRequest;
 import com.server.crews.auth.dto.request.ApplicantLoginRequest;
 import com.server.crews.auth.dto.response.TokenResponse;
 import com.server.crews.auth.controller.AuthorizationExtractor;
+import com.server.crews.auth.service.LoginUserCache;
 import com.server.crews.environ.DatabaseCleaner;
 import com.server.crews.external.application.EmailService;
 import com.server.crews.external.application.SlackBugAlertService;
@@ -25,6 +27,8 @@ import com.server.crews.recruitment.domain.QuestionType;
 import com.server.crews.recruitment.dto.request.RecruitmentSaveRequest;
 import com.server.crews.recruitment.dto.response.RecruitmentDetailsResponse;
 import com.server.crews.recruitment.repository.RecruitmentRepository;
+import com.server.crews.recruitment.service.RecruitmentDetailsResponseCache;
+import com.server.crews.recruitment.service.RecruitmentFormCache;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.response.ExtractableResponse;
@@ -56,6 +60,18 @@ public abstract class ApiTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private RecruitmentFormCache recruitmentFormCache;
+
+    @Autowired
+    private RecruitmentDetailsResponseCache recruitmentDetailsResponseCache;
+
+    @Autowired
+    private LoginUserCache loginUserCache;
+
+    @Autowired
+    private ApplicationManager applicationManager;
+
     @MockBean
     private EmailService emailService;
 
@@ -80,6 +96,10 @@ public abstract class ApiTest {
         redisTemplate.getConnectionFactory()
                 .getConnection()
                 .flushDb();
+        recruitmentFormCache.clear();
+        recruitmentDetailsResponseCache.clear();
+        loginUserCache.clear();
+        applicationManager.clear();
     }
 
     protected ApplicationSaveRequest applicationSaveRequest(String recruitmentCode, Long sectionId) {
@@ -129,6 +149,8 @@ public abstract class ApiTest {
                 () -> new IllegalArgumentException("recruitmentId가 " + recruitmentId + "인 테스트 모집 공고를 찾을 수 없습니다."));
         recruitment.close();
         recruitmentRepository.save(recruitment);
+        recruitmentFormCache.invalidate(recruitmentId);
+        recruitmentDetailsResponseCache.invalidate(recruitmentId);
     }
 
     protected TokenResponse signUpApplicant(String email, String password) {
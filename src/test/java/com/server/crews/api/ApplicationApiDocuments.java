@@ -1,6 +1,8 @@
 package com.server.crews.api;
 
 import static com.epages.restdocs.apispec.RestAssuredRestDocumentationWrapper.document;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
@@ -16,7 +18,7 @@ public class ApplicationApiDocuments {
 
     public static RestDocumentationFilter SAVE_APPLICATION_200_DOCUMENT() {
         return document(APPLICATION_API + "지원서 저장",
-                "지원서를 저장한다.",
+                "지원서를 저장한다. submit 쿼리 파라미터가 true이면 최종 제출로 보고 필수 답변과 최소 선택 개수를 검증한다.",
                 requestFields(
                         fieldWithPath(".id").description("지원서 id (최초 저장이 아닐 경우 필요함)").optional(),
                         fieldWithPath(".recruitmentCode").description("모집 공고 코드"),
@@ -33,6 +35,21 @@ public class ApplicationApiDocuments {
                 applicationDetailsResponseFields());
     }
 
+    public static RestDocumentationFilter SAVE_APPLICATION_ACK_200_DOCUMENT() {
+        return document(APPLICATION_API + "지원서 자동 저장",
+                "지원서를 저장하고 지원서 id와 리비전만 반환한다. response 쿼리 파라미터 대신 X-Response-Type 헤더로도 요청할 수 있다.",
+                queryParameters(
+                        parameterWithName("response").description("응답 형식 (DETAILS, ACK 중 하나, 기본값 DETAILS)")),
+                responseFields(
+                        fieldWithPath("id").description("지원서 id"),
+                        fieldWithPath("revision").description("저장할 때마다 1씩 증가하는 지원서 리비전")));
+    }
+
+    public static RestDocumentationFilter SAVE_DRAFT_APPLICATION_202_DOCUMENT() {
+        return document(APPLICATION_API + "지원서 임시 저장",
+                "작성 중인 지원서를 임시 저장한다. 임시 저장된 지원서는 주기적으로, 그리고 모집 마감 시 반영된다.");
+    }
+
     public static RestDocumentationFilter SAVE_APPLICATION_NOT_STARTED_409_DOCUMENT() {
         return document(APPLICATION_API + "모집이 시작되지 않은 모집 공고로 지원서 저장");
     }
@@ -53,6 +70,14 @@ public class ApplicationApiDocuments {
                 applicationDetailsResponseFields());
     }
 
+    public static RestDocumentationFilter GET_APPLICATIONS_DETAILS_200_DOCUMENT() {
+        return document(APPLICATION_API + "동아리 관리자 지원서 상세 일괄 조회",
+                "동아리 관리자가 여러 지원서의 상세 정보를 요청한 id 순서대로 한 번에 조회한다. 최대 200개까지 조회할 수 있다.",
+                queryParameters(
+                        parameterWithName("ids").description("지원서 id 목록")),
+                applicationDetailsResponseFields("[]"));
+    }
+
     public static RestDocumentationFilter GET_MY_APPLICATION_200_DOCUMENT() {
         return document(APPLICATION_API + "지원자 지원서 상세 조회",
                 "지원자가 본인의 지원서 상세 정보를 조회한다.",
@@ -66,7 +91,19 @@ public class ApplicationApiDocuments {
 
     public static RestDocumentationFilter GET_APPLICATIONS_200_DOCUMENT() {
         return document(APPLICATION_API + "지원서 목록 조회",
-                "지원서 목록을 조회한다.",
+                "지원서 목록을 조회한다. cursor와 size를 모두 보내지 않으면 전체 목록을 반환한다. "
+                        + "페이지 단위로 조회할 때 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 반환한다.",
+                queryParameters(
+                        parameterWithName("outcome").description("지원 결과 필터 (PENDING, PASS, FAIL 중 하나)")
+                                .optional(),
+                        parameterWithName("sort").description("정렬 기준 (ID, NAME, STUDENT_NUMBER 중 하나, 기본값 ID)")
+                                .optional(),
+                        parameterWithName("cursor").description("이전 페이지의 X-Next-Cursor 값").optional(),
+                        parameterWithName("size").description("페이지 크기 (cursor만 보내면 기본값 50, 최대 200)")
+                                .optional()),
+                responseHeaders(
+                        headerWithName("X-Next-Cursor").description("다음 페이지의 커서 (다음 페이지가 없으면 생략)")
+                                .optional()),
                 responseFields(
                         fieldWithPath("[].id").description("지원서 id"),
                         fieldWithPath("[].studentNumber").description("학번"),
@@ -75,6 +112,14 @@ public class ApplicationApiDocuments {
                         fieldWithPath("[].outcome").description("지원 결과 (PENDING, PASS, FAIL 중 하나)")));
     }
 
+    public static RestDocumentationFilter EXPORT_APPLICATIONS_200_DOCUMENT() {
+        return document(APPLICATION_API + "지원서 내보내기",
+                "한 공고의 모든 지원서를 답변과 함께 CSV 또는 JSON Lines 파일로 내려받는다.",
+                queryParameters(
+                        parameterWithName("format").description("파일 형식 (CSV, JSON_LINES 중 하나, 기본값 CSV)")
+                                .optional()));
+    }
+
     public static RestDocumentationFilter EVALUATE_APPLICATIONS_200_DOCUMENT() {
         return document(APPLICATION_API + "지원서 평가",
                 "지원서를 평가를 저장한다.",
@@ -82,22 +127,39 @@ public class ApplicationApiDocuments {
                         fieldWithPath(".passApplicationIds").description("합격 지원서 id 목록")));
     }
 
+    public static RestDocumentationFilter PATCH_EVALUATION_200_DOCUMENT() {
+        return document(APPLICATION_API + "지원서 평가 변경",
+                "요청에 포함된 지원서의 평가만 변경하고, 변경 후 지원 결과별 지원서 수를 반환한다.",
+                requestFields(
+                        fieldWithPath(".outcomes").description("변경할 지원 결과 목록"),
+                        fieldWithPath(".outcomes[].applicationId").description("지원서 id"),
+                        fieldWithPath(".outcomes[].outcome").description("지원 결과 (PENDING, PASS, FAIL 중 하나)")),
+                responseFields(
+                        fieldWithPath(".passCount").description("합격 지원서 수"),
+                        fieldWithPath(".failCount").description("불합격 지원서 수"),
+                        fieldWithPath(".pendingCount").description("미정 지원서 수")));
+    }
+
     public static RestDocumentationFilter EVALUATE_APPLICATIONS_409_DOCUMENT() {
         return document(APPLICATION_API + "평가 및 결과 발표 완료된 모집 공고의 지원서 평가");
     }
 
     private static ResponseFieldsSnippet applicationDetailsResponseFields() {
+        return applicationDetailsResponseFields("");
+    }
+
+    private static ResponseFieldsSnippet applicationDetailsResponseFields(String prefix) {
         return responseFields(
-                fieldWithPath(".id").description("지원서 id"),
-                fieldWithPath(".studentNumber").description("학번"),
-                fieldWithPath(".major").description("전공"),
-                fieldWithPath(".name").description("지원자 이름"),
-                fieldWithPath(".sections").description("섹션 목록"),
-                fieldWithPath(".sections[].sectionId").description("섹션 id"),
-                fieldWithPath(".sections[].answers").description("답변 목록"),
-                fieldWithPath(".sections[].answers[].type").description("답변 타입(NARRATIVE, SELECTIVE 중 하나)"),
-                fieldWithPath(".sections[].answers[].choiceIds").description("선택지 id 리스트 (SELECTIVE 질문의 경우)").optional(),
-                fieldWithPath(".sections[].answers[].content").description("서술형 답안 (NARRATIVE 질문의 경우)").optional(),
-                fieldWithPath(".sections[].answers[].questionId").description("질문 id"));
+                fieldWithPath(prefix + ".id").description("지원서 id"),
+                fieldWithPath(prefix + ".studentNumber").description("학번"),
+                fieldWithPath(prefix + ".major").description("전공"),
+                fieldWithPath(prefix + ".name").description("지원자 이름"),
+                fieldWithPath(prefix + ".sections").description("섹션 목록"),
+                fieldWithPath(prefix + ".sections[].sectionId").description("섹션 id"),
+                fieldWithPath(prefix + ".sections[].answers").description("답변 목록"),
+                fieldWithPath(prefix + ".sections[].answers[].type").description("답변 타입(NARRATIVE, SELECTIVE 중 하나)"),
+                fieldWithPath(prefix + ".sections[].answers[].choiceIds").description("선택지 id 리스트 (SELECTIVE 질문의 경우)").optional(),
+                fieldWithPath(prefix + ".sections[].answers[].content").description("서술형 답안 (NARRATIVE 질문의 경우)").optional(),
+                fieldWithPath(prefix + ".sections[].answers[].questionId").description("질문 id"));
     }
 }
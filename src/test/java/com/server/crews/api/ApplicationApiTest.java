@@ -12,13 +12,20 @@ import static com.server.crews.fixture.UserFixture.TEST_EMAIL;
 import static com.server.crews.fixture.UserFixture.TEST_PASSWORD;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import com.server.crews.applicant.controller.ApplicationController;
+import com.server.crews.applicant.domain.Outcome;
 import com.server.crews.applicant.dto.request.AnswerSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationResponseType;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSectionSaveRequest;
+import com.server.crews.applicant.dto.request.EvaluationPatchRequest;
 import com.server.crews.applicant.dto.request.EvaluationRequest;
+import com.server.crews.applicant.dto.request.OutcomePatchRequest;
 import com.server.crews.applicant.dto.response.AnswerResponse;
+import com.server.crews.applicant.dto.response.ApplicationAckResponse;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
 import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import com.server.crews.applicant.dto.response.OutcomeCountResponse;
 import com.server.crews.applicant.dto.response.SectionAnswerResponse;
 import com.server.crews.auth.dto.response.TokenResponse;
 import com.server.crews.auth.controller.AuthorizationExtractor;
@@ -35,6 +42,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 public class ApplicationApiTest extends ApiTest {
@@ -100,6 +108,87 @@ public class ApplicationApiTest extends ApiTest {
         });
     }
 
+    @Test
+    @DisplayName("지원자가 응답 형식을 ACK로 지정하면 지원서 id와 리비전만 반환한다.")
+    void saveApplicationWithAck() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantTokenResponse = signUpApplicant(TEST_EMAIL, TEST_PASSWORD);
+        ApplicationSaveRequest applicationSaveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1l, List.of(
+                new AnswerSaveRequest(1l, QuestionType.NARRATIVE.name(), null, DEFAULT_NARRATIVE_ANSWER)))),
+                recruitmentDetailsResponse.code());
+        ApplicationDetailsResponse testApplication = createTestApplication(applicantTokenResponse.accessToken(),
+                applicationSaveRequest);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given(spec).log().all()
+                .filter(ApplicationApiDocuments.SAVE_APPLICATION_ACK_200_DOCUMENT())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + applicantTokenResponse.accessToken())
+                .queryParam("response", ApplicationResponseType.ACK.name())
+                .body(applicationSaveRequest)
+                .when().post("/applications")
+                .then().log().all()
+                .extract();
+
+        // then
+        ApplicationAckResponse applicationAckResponse = response.as(ApplicationAckResponse.class);
+        assertSoftly(softAssertions -> {
+            checkStatusCode200(response, softAssertions);
+            softAssertions.assertThat(applicationAckResponse.id()).isEqualTo(testApplication.id());
+            softAssertions.assertThat(applicationAckResponse.revision()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("지원자가 작성 중인 지원서를 임시 저장하면 본인의 지원서 조회 시 임시 저장된 지원서를 반환한다.")
+    void saveDraftApplication() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantTokenResponse = signUpApplicant(TEST_EMAIL, TEST_PASSWORD);
+        ApplicationSaveRequest draftSaveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1l, List.of(
+                new AnswerSaveRequest(1l, QuestionType.NARRATIVE.name(), null, "작성 중인 내용")))),
+                recruitmentDetailsResponse.code());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given(spec).log().all()
+                .filter(ApplicationApiDocuments.SAVE_DRAFT_APPLICATION_202_DOCUMENT())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + applicantTokenResponse.accessToken())
+                .body(draftSaveRequest)
+                .when().post("/applications/drafts")
+                .then().log().all()
+                .extract();
+
+        // then
+        ApplicationDetailsResponse myApplicationDetailsResponse = RestAssured.given()
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + applicantTokenResponse.accessToken())
+                .queryParam("code", recruitmentDetailsResponse.code())
+                .when().get("/applications/mine")
+                .then().extract()
+                .as(ApplicationDetailsResponse.class);
+        List<AnswerResponse> answerResponses = myApplicationDetailsResponse.sections()
+                .stream()
+                .map(SectionAnswerResponse::answers)
+                .flatMap(Collection::stream)
+                .toList();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(response.statusCode()).isEqualTo(HttpStatus.ACCEPTED.value());
+            softAssertions.assertThat(answerResponses)
+                    .extracting(AnswerResponse::content)
+                    .contains("작성 중인 내용");
+        });
+    }
+
     @Test
     @DisplayName("지원자가 모집이 시작되지 않은 지원서를 저장한다.")
     void saveApplicationAboutNotStartedRecruitment() {
@@ -304,6 +393,43 @@ public class ApplicationApiTest extends ApiTest {
         checkStatusCode200(response);
     }
 
+    @Test
+    @DisplayName("지원서 평가를 부분적으로 변경한다.")
+    void patchEvaluation() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantATokenResponse = signUpApplicant("A" + TEST_EMAIL, TEST_PASSWORD);
+        TokenResponse applicantBTokenResponse = signUpApplicant("B" + TEST_EMAIL, TEST_PASSWORD);
+
+        ApplicationSaveRequest applicationSaveRequest = applicationSaveRequest(recruitmentDetailsResponse.code(), 1l);
+        ApplicationDetailsResponse applicationADetailsResponse = createTestApplication(
+                applicantATokenResponse.accessToken(), applicationSaveRequest);
+        createTestApplication(applicantBTokenResponse.accessToken(), applicationSaveRequest);
+
+        EvaluationPatchRequest evaluationPatchRequest = new EvaluationPatchRequest(
+                List.of(new OutcomePatchRequest(applicationADetailsResponse.id(), Outcome.PASS)));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given(spec).log().all()
+                .filter(ApplicationApiDocuments.PATCH_EVALUATION_200_DOCUMENT())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(evaluationPatchRequest)
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + adminTokenResponse.accessToken())
+                .when().patch("/applications/evaluation")
+                .then().log().all()
+                .extract();
+
+        // then
+        OutcomeCountResponse outcomeCountResponse = response.as(OutcomeCountResponse.class);
+        assertSoftly(softAssertions -> {
+            checkStatusCode200(response, softAssertions);
+            softAssertions.assertThat(outcomeCountResponse).isEqualTo(new OutcomeCountResponse(1, 0, 1));
+        });
+    }
+
     @Test
     @DisplayName("평가 완료된 모집 공고의 지원서들을 평가한다.")
     void evaluateWhenRecruitmentIsAnnounced() {
@@ -377,4 +503,109 @@ public class ApplicationApiTest extends ApiTest {
             softAssertions.assertThat(applicationsResponses).hasSize(2);
         });
     }
+
+    @Test
+    @DisplayName("동아리 관리자가 여러 지원서의 상세 정보를 한 번에 조회한다.")
+    void getAllApplicationDetails() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantATokenResponse = signUpApplicant("A" + TEST_EMAIL, TEST_PASSWORD);
+        TokenResponse applicantBTokenResponse = signUpApplicant("B" + TEST_EMAIL, TEST_PASSWORD);
+
+        ApplicationSaveRequest applicationSaveRequest = applicationSaveRequest(recruitmentDetailsResponse.code(), 1l);
+        ApplicationDetailsResponse applicationA = createTestApplication(applicantATokenResponse.accessToken(),
+                applicationSaveRequest);
+        ApplicationDetailsResponse applicationB = createTestApplication(applicantBTokenResponse.accessToken(),
+                applicationSaveRequest);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given(spec).log().all()
+                .filter(ApplicationApiDocuments.GET_APPLICATIONS_DETAILS_200_DOCUMENT())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + adminTokenResponse.accessToken())
+                .queryParam("ids", applicationB.id(), applicationA.id())
+                .when().get("/applications/details")
+                .then().log().all()
+                .extract();
+
+        // then
+        List<ApplicationDetailsResponse> applicationDetailsResponses = Arrays.stream(
+                response.as(ApplicationDetailsResponse[].class)).toList();
+        assertSoftly(softAssertions -> {
+            checkStatusCode200(response, softAssertions);
+            softAssertions.assertThat(applicationDetailsResponses).extracting(ApplicationDetailsResponse::id)
+                    .containsExactly(applicationB.id(), applicationA.id());
+        });
+    }
+
+    @Test
+    @DisplayName("한 공고의 모든 지원서를 CSV 파일로 내보낸다.")
+    void exportApplications() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantATokenResponse = signUpApplicant("A" + TEST_EMAIL, TEST_PASSWORD);
+        TokenResponse applicantBTokenResponse = signUpApplicant("B" + TEST_EMAIL, TEST_PASSWORD);
+
+        ApplicationSaveRequest applicationSaveRequest = applicationSaveRequest(recruitmentDetailsResponse.code(), 1l);
+        createTestApplication(applicantATokenResponse.accessToken(), applicationSaveRequest);
+        createTestApplication(applicantBTokenResponse.accessToken(), applicationSaveRequest);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given(spec).log().all()
+                .filter(ApplicationApiDocuments.EXPORT_APPLICATIONS_200_DOCUMENT())
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + adminTokenResponse.accessToken())
+                .queryParam("format", "CSV")
+                .when().get("/applications/export")
+                .then().log().all()
+                .extract();
+
+        // then
+        List<String> lines = response.asString().lines().toList();
+        assertSoftly(softAssertions -> {
+            checkStatusCode200(response, softAssertions);
+            softAssertions.assertThat(response.contentType()).startsWith("text/csv");
+            softAssertions.assertThat(lines).hasSize(3);
+        });
+    }
+
+    @Test
+    @DisplayName("지원서 목록을 페이지 단위로 조회하고 다음 페이지 커서를 받는다.")
+    void getApplicationsPageByRecruitment() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        RecruitmentDetailsResponse recruitmentDetailsResponse = createRecruitment(adminTokenResponse.accessToken());
+        startTestRecruiting(adminTokenResponse.accessToken());
+        TokenResponse applicantATokenResponse = signUpApplicant("A" + TEST_EMAIL, TEST_PASSWORD);
+        TokenResponse applicantBTokenResponse = signUpApplicant("B" + TEST_EMAIL, TEST_PASSWORD);
+
+        ApplicationSaveRequest applicationSaveRequest = applicationSaveRequest(recruitmentDetailsResponse.code(), 1l);
+        createTestApplication(applicantATokenResponse.accessToken(), applicationSaveRequest);
+        createTestApplication(applicantBTokenResponse.accessToken(), applicationSaveRequest);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION,
+                        AuthorizationExtractor.BEARER_TYPE + adminTokenResponse.accessToken())
+                .queryParam("sort", "ID")
+                .queryParam("size", 1)
+                .when().get("/applications")
+                .then().log().all()
+                .extract();
+
+        // then
+        List<ApplicationsResponse> applicationsResponses = Arrays.stream(response.as(ApplicationsResponse[].class))
+                .toList();
+        assertSoftly(softAssertions -> {
+            checkStatusCode200(response, softAssertions);
+            softAssertions.assertThat(applicationsResponses).hasSize(1);
+            softAssertions.assertThat(response.header(ApplicationController.NEXT_CURSOR_HEADER)).isNotNull();
+        });
+    }
 }
@@ -92,6 +92,9 @@ public class RecruitmentApiDocuments {
                 "모집 중 지원 상태를 조회한다.",
                 responseFields(
                         fieldWithPath("applicationCount").description("지원서 수"),
+                        fieldWithPath("passCount").description("합격 지원서 수"),
+                        fieldWithPath("failCount").description("불합격 지원서 수"),
+                        fieldWithPath("pendingCount").description("평가 전 지원서 수"),
                         fieldWithPath("deadline").description("모집 마감 기한"),
                         fieldWithPath("code").description("모집 공고 코드")));
     }
@@ -2,6 +2,7 @@ package com.server.crews.api;
 
 import static com.server.crews.api.StatusCodeChecker.checkStatusCode200;
 import static com.server.crews.api.StatusCodeChecker.checkStatusCode204;
+import static com.server.crews.api.StatusCodeChecker.checkStatusCode304;
 import static com.server.crews.api.StatusCodeChecker.checkStatusCode400;
 import static com.server.crews.api.StatusCodeChecker.checkStatusCode409;
 import static com.server.crews.fixture.QuestionFixture.INTRODUCTION_QUESTION;
@@ -340,6 +341,7 @@ public class RecruitmentApiTest extends ApiTest {
             checkStatusCode200(response, softAssertions);
             softAssertions.assertThat(recruitmentStateInProgressResponse.deadline()).isNotNull();
             softAssertions.assertThat(recruitmentStateInProgressResponse.applicationCount()).isEqualTo(2);
+            softAssertions.assertThat(recruitmentStateInProgressResponse.pendingCount()).isEqualTo(2);
         });
     }
 
@@ -425,6 +427,37 @@ public class RecruitmentApiTest extends ApiTest {
         checkStatusCode200(response);
     }
 
+    @Test
+    @DisplayName("ETag가 일치하는 모집 공고 상세 정보를 코드로 조회하면 304를 반환한다.")
+    void getNotModifiedRecruitmentDetailsByCode() {
+        // given
+        TokenResponse adminTokenResponse = signUpAdmin(TEST_CLUB_NAME, TEST_PASSWORD);
+        String adminAccessToken = adminTokenResponse.accessToken();
+        RecruitmentDetailsResponse savedRecruitmentDetailsResponse = createRecruitment(adminAccessToken);
+
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, AuthorizationExtractor.BEARER_TYPE + adminAccessToken)
+                .when().patch("/recruitments/in-progress");
+
+        String eTag = RestAssured.given()
+                .queryParam("code", savedRecruitmentDetailsResponse.code())
+                .when().get("/recruitments")
+                .then().extract()
+                .header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("code", savedRecruitmentDetailsResponse.code())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/recruitments")
+                .then().log().all()
+                .extract();
+
+        // then
+        checkStatusCode304(response);
+    }
+
     @Test
     @DisplayName("준비 중인 모집 공고를 코드로 조회한다.")
     void getReadyRecruitmentDetailsByCode() {
@@ -21,6 +21,10 @@ public class StatusCodeChecker {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
 
+    public static void checkStatusCode304(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
     public static void checkStatusCode400(ExtractableResponse<Response> response, SoftAssertions softAssertions) {
         softAssertions.assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
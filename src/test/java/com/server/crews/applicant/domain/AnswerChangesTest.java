@@ -0,0 +1,88 @@
+package com.server.crews.applicant.domain;
+
+import static com.server.crews.fixture.ApplicationFixture.APPLICATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AnswerChangesTest {
+
+    @Test
+    @DisplayName("이전 지원서가 없으면 모든 답변을 새로 저장한다.")
+    void betweenWithoutPreviousApplication() {
+        // given
+        Application application = APPLICATION(1L, null,
+                List.of(new NarrativeAnswer(new NarrativeQuestion(1L), "답변")),
+                List.of(new SelectiveAnswer(new Choice(1L), new SelectiveQuestion(1L)),
+                        new SelectiveAnswer(new Choice(2L), new SelectiveQuestion(1L))));
+
+        // when
+        AnswerChanges answerChanges = AnswerChanges.between(null, application);
+
+        // then
+        assertAll(
+                () -> assertThat(answerChanges.insertedNarrativeAnswers()).hasSize(1),
+                () -> assertThat(answerChanges.insertedSelectiveAnswers()).hasSize(2),
+                () -> assertThat(answerChanges.updatedNarrativeAnswers()).isEmpty(),
+                () -> assertThat(answerChanges.deletedNarrativeAnswerIds()).isEmpty(),
+                () -> assertThat(answerChanges.deletedSelectiveAnswerIds()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("이전 답변과 비교하여 변경된 답변만 추가, 수정, 삭제한다.")
+    void betweenWithPreviousApplication() {
+        // given
+        Application previousApplication = APPLICATION(1L, null,
+                List.of(new NarrativeAnswer(1L, new NarrativeQuestion(1L), "유지되는 답변"),
+                        new NarrativeAnswer(2L, new NarrativeQuestion(2L), "수정 전 답변"),
+                        new NarrativeAnswer(3L, new NarrativeQuestion(3L), "삭제되는 답변")),
+                List.of(new SelectiveAnswer(1L, new Choice(1L), new SelectiveQuestion(1L)),
+                        new SelectiveAnswer(2L, new Choice(2L), new SelectiveQuestion(1L))));
+        Application application = APPLICATION(1L, null,
+                List.of(new NarrativeAnswer(1L, new NarrativeQuestion(1L), "유지되는 답변"),
+                        new NarrativeAnswer(2L, new NarrativeQuestion(2L), "수정된 답변"),
+                        new NarrativeAnswer(new NarrativeQuestion(4L), "추가된 답변")),
+                List.of(new SelectiveAnswer(1L, new Choice(1L), new SelectiveQuestion(1L)),
+                        new SelectiveAnswer(new Choice(3L), new SelectiveQuestion(1L))));
+
+        // when
+        AnswerChanges answerChanges = AnswerChanges.between(previousApplication, application);
+
+        // then
+        assertAll(
+                () -> assertThat(answerChanges.insertedNarrativeAnswers()).extracting(NarrativeAnswer::getQuestionId)
+                        .containsExactly(4L),
+                () -> assertThat(answerChanges.updatedNarrativeAnswers()).extracting(NarrativeAnswer::getId)
+                        .containsExactly(2L),
+                () -> assertThat(answerChanges.deletedNarrativeAnswerIds()).containsExactly(3L),
+                () -> assertThat(answerChanges.insertedSelectiveAnswers()).extracting(SelectiveAnswer::getChoiceId)
+                        .containsExactly(3L),
+                () -> assertThat(answerChanges.deletedSelectiveAnswerIds()).containsExactly(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("답변이 바뀌지 않으면 변경 사항이 없다.")
+    void betweenWithSameAnswers() {
+        // given
+        Application previousApplication = APPLICATION(1L, null,
+                List.of(new NarrativeAnswer(1L, new NarrativeQuestion(1L), "답변")),
+                List.of(new SelectiveAnswer(1L, new Choice(1L), new SelectiveQuestion(1L))));
+        Application application = APPLICATION(1L, null,
+                List.of(new NarrativeAnswer(1L, new NarrativeQuestion(1L), "답변")),
+                List.of(new SelectiveAnswer(1L, new Choice(1L), new SelectiveQuestion(1L))));
+
+        // when
+        AnswerChanges answerChanges = AnswerChanges.between(previousApplication, application);
+
+        // then
+        assertThat(answerChanges.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package com.server.crews.applicant.repository;
+
+import static com.server.crews.fixture.ApplicationFixture.APPLICATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.domain.AnswerChanges;
+import com.server.crews.applicant.domain.Application;
+import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.auth.domain.Applicant;
+import com.server.crews.environ.repository.RepositoryTest;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.repository.NarrativeQuestionRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Import(AnswerJdbcRepository.class)
+class AnswerJdbcRepositoryTest extends RepositoryTest {
+    @Autowired
+    private AnswerJdbcRepository answerJdbcRepository;
+
+    @Autowired
+    private NarrativeAnswerRepository narrativeAnswerRepository;
+
+    @Autowired
+    private NarrativeQuestionRepository narrativeQuestionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("답변 하나만 바꿔 다시 저장하면 배치 statement를 하나만 실행한다.")
+    void saveChangesWithOneChangedAnswer() {
+        // given
+        Administrator publisher = createDefaultAdmin();
+        Recruitment recruitment = createDefaultRecruitment(publisher);
+        Applicant applicant = createDefaultApplicant("applicant@gmail.com");
+        Application application = createDefaultApplication(applicant.getId(), recruitment);
+        List<NarrativeQuestion> narrativeQuestions = narrativeQuestionRepository.findAll();
+        NarrativeAnswer changedAnswer = saveNarrativeAnswer(application, narrativeQuestions.get(0), "수정 전 답변");
+        NarrativeAnswer keptAnswer = saveNarrativeAnswer(application, narrativeQuestions.get(1), "유지되는 답변");
+
+        Application previousApplication = APPLICATION(applicant.getId(), recruitment,
+                List.of(new NarrativeAnswer(changedAnswer.getId(), narrativeQuestions.get(0), "수정 전 답변"),
+                        new NarrativeAnswer(keptAnswer.getId(), narrativeQuestions.get(1), "유지되는 답변")),
+                List.of());
+        Application updatedApplication = APPLICATION(applicant.getId(), recruitment,
+                List.of(new NarrativeAnswer(changedAnswer.getId(), narrativeQuestions.get(0), "수정된 답변"),
+                        new NarrativeAnswer(keptAnswer.getId(), narrativeQuestions.get(1), "유지되는 답변")),
+                List.of());
+
+        // when
+        int statementCount = answerJdbcRepository.saveChanges(application.getId(),
+                AnswerChanges.between(previousApplication, updatedApplication));
+
+        // then
+        assertAll(
+                () -> assertThat(statementCount).isEqualTo(1),
+                () -> assertThat(findContent(changedAnswer.getId())).isEqualTo("수정된 답변"),
+                () -> assertThat(findContent(keptAnswer.getId())).isEqualTo("유지되는 답변")
+        );
+    }
+
+    private NarrativeAnswer saveNarrativeAnswer(Application application, NarrativeQuestion question,
+                                                String content) {
+        NarrativeAnswer narrativeAnswer = new NarrativeAnswer(question, content);
+        narrativeAnswer.updateApplication(application);
+        return narrativeAnswerRepository.saveAndFlush(narrativeAnswer);
+    }
+
+    private String findContent(Long narrativeAnswerId) {
+        return jdbcTemplate.queryForObject("select content from narrative_answer where id = ?", String.class,
+                narrativeAnswerId);
+    }
+}
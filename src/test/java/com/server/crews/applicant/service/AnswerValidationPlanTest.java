@@ -0,0 +1,114 @@
+package com.server.crews.applicant.service;
+
+import static com.server.crews.fixture.QuestionFixture.BRIGHT_CHOICE;
+import static com.server.crews.fixture.QuestionFixture.FAITHFUL_CHOICE;
+import static com.server.crews.fixture.QuestionFixture.INTRODUCTION_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.METICULOUS_CHOICE;
+import static com.server.crews.fixture.QuestionFixture.STRENGTH_QUESTION;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_CODE;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DEADLINE;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DESCRIPTION;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_TITLE;
+import static com.server.crews.fixture.SectionFixture.BACKEND_SECTION_NAME;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.applicant.domain.SelectiveAnswer;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.Section;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AnswerValidationPlanTest {
+    private static final long NARRATIVE_QUESTION_ID = 1L;
+    private static final long STRENGTH_QUESTION_ID = 1L;
+    private static final long OTHER_QUESTION_ID = 2L;
+    private static final long OTHER_CHOICE_ID = 4L;
+
+    private final AnswerValidationPlan answerValidationPlan = AnswerValidationPlan.compile(recruitment());
+
+    @Test
+    @DisplayName("모든 제약 조건을 만족하는 답변은 검증을 통과한다.")
+    void validate() {
+        // given
+        List<NarrativeAnswer> narrativeAnswers = List.of(narrativeAnswer(NARRATIVE_QUESTION_ID, "안녕하세요"));
+        List<SelectiveAnswer> selectiveAnswers = List.of(
+                selectiveAnswer(STRENGTH_QUESTION_ID, 1L),
+                selectiveAnswer(STRENGTH_QUESTION_ID, 2L));
+
+        // when & then
+        assertThatCode(() -> answerValidationPlan.validate(narrativeAnswers, selectiveAnswers, true))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("작성 중인 지원서는 필수 답변이 없어도 검증을 통과한다.")
+    void validateUnsubmittedAnswers() {
+        // given
+        List<SelectiveAnswer> selectiveAnswers = List.of(selectiveAnswer(STRENGTH_QUESTION_ID, 1L));
+
+        // when & then
+        assertThatCode(() -> answerValidationPlan.validate(List.of(), selectiveAnswers, false))
+                .doesNotThrowAnyException();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidAnswers")
+    @DisplayName("제약 조건을 만족하지 않는 답변은 예외가 발생한다.")
+    void validateInvalidAnswers(List<NarrativeAnswer> narrativeAnswers, List<SelectiveAnswer> selectiveAnswers,
+                                CrewsErrorCode errorCode) {
+        // when & then
+        assertThatThrownBy(() -> answerValidationPlan.validate(narrativeAnswers, selectiveAnswers, true))
+                .isInstanceOf(CrewsException.class)
+                .hasMessage(errorCode.getMessage());
+    }
+
+    private static Stream<Arguments> provideInvalidAnswers() {
+        List<NarrativeAnswer> validNarrativeAnswers = List.of(narrativeAnswer(NARRATIVE_QUESTION_ID, "안녕하세요"));
+        return Stream.of(
+                Arguments.of(List.of(), List.of(), CrewsErrorCode.ANSWER_REQUIRED),
+                Arguments.of(List.of(narrativeAnswer(NARRATIVE_QUESTION_ID, "안녕하세요, 종미입니다")), List.of(),
+                        CrewsErrorCode.EXCEED_WORD_LIMIT_ANSWER),
+                Arguments.of(validNarrativeAnswers, List.of(selectiveAnswer(STRENGTH_QUESTION_ID, OTHER_CHOICE_ID)),
+                        CrewsErrorCode.CHOICE_NOT_IN_QUESTION),
+                Arguments.of(validNarrativeAnswers, List.of(
+                        selectiveAnswer(STRENGTH_QUESTION_ID, 1L),
+                        selectiveAnswer(STRENGTH_QUESTION_ID, 2L),
+                        selectiveAnswer(STRENGTH_QUESTION_ID, 3L)), CrewsErrorCode.SELECTION_COUNT_OUT_OF_RANGE)
+        );
+    }
+
+    private static Recruitment recruitment() {
+        NarrativeQuestion narrativeQuestion = new NarrativeQuestion(NARRATIVE_QUESTION_ID, INTRODUCTION_QUESTION, true,
+                1, 5);
+        SelectiveQuestion strengthQuestion = new SelectiveQuestion(STRENGTH_QUESTION_ID,
+                List.of(new Choice(1L, FAITHFUL_CHOICE), new Choice(2L, BRIGHT_CHOICE),
+                        new Choice(3L, METICULOUS_CHOICE)),
+                STRENGTH_QUESTION, false, 2, 1, 2);
+        SelectiveQuestion otherQuestion = new SelectiveQuestion(OTHER_QUESTION_ID,
+                List.of(new Choice(OTHER_CHOICE_ID, FAITHFUL_CHOICE)), STRENGTH_QUESTION, false, 3, 1, 1);
+        Section section = new Section(1L, BACKEND_SECTION_NAME, DEFAULT_DESCRIPTION, List.of(narrativeQuestion),
+                List.of(strengthQuestion, otherQuestion));
+        return new Recruitment(1L, DEFAULT_CODE, DEFAULT_TITLE, DEFAULT_DESCRIPTION, DEFAULT_DEADLINE, null,
+                List.of(section));
+    }
+
+    private static NarrativeAnswer narrativeAnswer(Long questionId, String content) {
+        return new NarrativeAnswer(new NarrativeQuestion(questionId), content);
+    }
+
+    private static SelectiveAnswer selectiveAnswer(Long questionId, Long choiceId) {
+        return new SelectiveAnswer(new Choice(choiceId), new SelectiveQuestion(questionId));
+    }
+}
@@ -0,0 +1,163 @@
+package com.server.crews.applicant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.service.ApplicationAdmissionLimiter.AdmissionStats;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.NotFoundException;
+import com.server.crews.global.exception.TooManyRequestsException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApplicationAdmissionLimiterTest {
+    private static final String RECRUITMENT_CODE = "RECRUITMENT_CODE";
+    private static final String OTHER_RECRUITMENT_CODE = "OTHER_RECRUITMENT_CODE";
+
+    @Test
+    @DisplayName("동시 처리 한도 안의 요청은 바로 처리한다.")
+    void execute() {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 0, 100);
+
+        // when
+        String result = limiter.execute(RECRUITMENT_CODE, () -> "saved");
+
+        // then
+        AdmissionStats stats = limiter.stats();
+        assertAll(
+                () -> assertThat(result).isEqualTo("saved"),
+                () -> assertThat(stats.admittedCount()).isEqualTo(1),
+                () -> assertThat(stats.rejectedCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청을 바로 거절한다.")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 0, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<Void> runningRequest = CompletableFuture.runAsync(() ->
+                limiter.execute(RECRUITMENT_CODE, () -> {
+                    started.countDown();
+                    await(finished);
+                    return null;
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.execute(RECRUITMENT_CODE, () -> "saved"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(CrewsErrorCode.TOO_MANY_APPLICATION_REQUESTS.getMessage());
+        finished.countDown();
+        runningRequest.join();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 처리되지 않은 요청은 거절한다.")
+    void rejectWhenWaitTimesOut() throws InterruptedException {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 1, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<Void> runningRequest = CompletableFuture.runAsync(() ->
+                limiter.execute(RECRUITMENT_CODE, () -> {
+                    started.countDown();
+                    await(finished);
+                    return null;
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.execute(RECRUITMENT_CODE, () -> "saved"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(limiter.stats().rejectedCount()).isEqualTo(1);
+        finished.countDown();
+        runningRequest.join();
+    }
+
+    @Test
+    @DisplayName("다른 모집 공고의 요청은 서로의 한도에 영향을 주지 않는다.")
+    void executeForOtherRecruitment() throws InterruptedException {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 0, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<Void> runningRequest = CompletableFuture.runAsync(() ->
+                limiter.execute(RECRUITMENT_CODE, () -> {
+                    started.countDown();
+                    await(finished);
+                    return null;
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        String result = limiter.execute(OTHER_RECRUITMENT_CODE, () -> "saved");
+
+        // then
+        assertThat(result).isEqualTo("saved");
+        finished.countDown();
+        runningRequest.join();
+    }
+
+    @Test
+    @DisplayName("처리 중에 예외가 발생한 요청의 대기열도 요청이 끝나면 제거한다.")
+    void removeAdmissionAfterFailedRequest() {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 0, 100);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> limiter.execute("UNKNOWN_RECRUITMENT_CODE", () -> {
+                    throw new NotFoundException("모집 공고 코드", "모집 공고");
+                })).isInstanceOf(NotFoundException.class),
+                () -> assertThat(limiter.admissionCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 없는 모집 공고의 대기열은 마지막 요청이 끝나면 제거한다.")
+    void removeAdmissionAfterLastRequest() throws InterruptedException {
+        // given
+        ApplicationAdmissionLimiter limiter = limiter(1, 1, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<Void> runningRequest = CompletableFuture.runAsync(() ->
+                limiter.execute(RECRUITMENT_CODE, () -> {
+                    started.countDown();
+                    await(finished);
+                    return null;
+                }));
+        started.await(1, TimeUnit.SECONDS);
+        int admissionCountWhileRunning = limiter.admissionCount();
+
+        // when
+        finished.countDown();
+        runningRequest.join();
+
+        // then
+        assertAll(
+                () -> assertThat(admissionCountWhileRunning).isEqualTo(1),
+                () -> assertThat(limiter.admissionCount()).isZero()
+        );
+    }
+
+    private ApplicationAdmissionLimiter limiter(int concurrencyLimit, int queueCapacity,
+                                                long maximumWaitInMilliseconds) {
+        return new ApplicationAdmissionLimiter(concurrencyLimit, queueCapacity, maximumWaitInMilliseconds, 5);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.server.crews.applicant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.crews.applicant.domain.ApplicationCounts;
+import com.server.crews.applicant.event.ApplicationCreatedEvent;
+import com.server.crews.applicant.repository.ApplicationCountRepository;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.recruitment.domain.Recruitment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicationCounterTest extends ServiceTest {
+    @Autowired
+    private ApplicationCounter applicationCounter;
+
+    @Autowired
+    private ApplicationCountRepository applicationCountRepository;
+
+    private Recruitment recruitment;
+
+    @BeforeEach
+    void setUpApplications() {
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment).pass();
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 지원서 수를 세어 저장한다.")
+    void findByRecruitmentIdWithoutCounter() {
+        // when
+        ApplicationCounts applicationCounts = applicationCounter.findByRecruitmentId(recruitment.getId());
+
+        // then
+        assertThat(applicationCounts).isEqualTo(new ApplicationCounts(2, 1, 0, 1));
+        assertThat(applicationCountRepository.findByRecruitmentId(recruitment.getId())).contains(applicationCounts);
+    }
+
+    @Test
+    @DisplayName("지원서가 새로 저장되면 전체 지원서 수와 평가 전 지원서 수를 증가시킨다.")
+    void increment() {
+        // given
+        applicationCounter.findByRecruitmentId(recruitment.getId());
+
+        // when
+        applicationCounter.increment(new ApplicationCreatedEvent(recruitment.getId()));
+
+        // then
+        assertThat(applicationCounter.findByRecruitmentId(recruitment.getId()))
+                .isEqualTo(new ApplicationCounts(3, 1, 0, 2));
+    }
+
+    @Test
+    @DisplayName("카운터가 DB와 어긋나면 다시 센 지원서 수로 보정한다.")
+    void reconcile() {
+        // given
+        applicationCountRepository.save(recruitment.getId(), new ApplicationCounts(5, 0, 0, 5));
+
+        // when
+        applicationCounter.reconcile();
+
+        // then
+        assertThat(applicationCounter.findByRecruitmentId(recruitment.getId()))
+                .isEqualTo(new ApplicationCounts(2, 1, 0, 1));
+    }
+}
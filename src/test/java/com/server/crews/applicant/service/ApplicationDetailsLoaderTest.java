@@ -0,0 +1,149 @@
+package com.server.crews.applicant.service;
+
+import static com.server.crews.fixture.QuestionFixture.INTRODUCTION_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.NARRATIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.SELECTIVE_QUESTION;
+import static com.server.crews.fixture.SectionFixture.BACKEND_SECTION_NAME;
+import static com.server.crews.fixture.UserFixture.TEST_PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.domain.Application;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.auth.domain.Applicant;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.environ.service.ServiceTestEnviron;
+import com.server.crews.environ.service.TestApplicant;
+import com.server.crews.environ.service.TestApplication;
+import com.server.crews.environ.service.TestRecruitment;
+import com.server.crews.global.exception.NotFoundException;
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicationDetailsLoaderTest extends ServiceTest {
+    private static final long APPLICATIONS_LOADING_QUERY_COUNT = 3;
+    private static final long PREVIOUS_APPLICATION_LOADING_QUERY_COUNT = 3;
+
+    @Autowired
+    private ApplicationDetailsLoader applicationDetailsLoader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ServiceTestEnviron serviceTestEnviron;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    @DisplayName("지원서 개수와 관계없이 일정한 수의 쿼리로 지원서와 답변을 모두 조회한다.")
+    void findAllByIdsAndRecruitmentIdWithConstantQueryCount(int applicationCount) {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        TestRecruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()));
+        List<Long> applicationIds = IntStream.range(0, applicationCount)
+                .mapToObj(number -> saveApplicationWithAnswers(testRecruitment, number).getId())
+                .toList();
+        statistics.clear();
+
+        // when
+        List<Application> applications = applicationDetailsLoader.findAllByIdsAndRecruitmentId(applicationIds,
+                testRecruitment.recruitment().getId());
+
+        // then
+        assertAll(
+                () -> assertThat(applications).extracting(Application::getId).containsExactlyElementsOf(applicationIds),
+                () -> assertThat(applications).allMatch(application -> application.getNarrativeAnswers().size() == 1
+                        && application.getSelectiveAnswers().size() == 1),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(APPLICATIONS_LOADING_QUERY_COUNT)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 모집 공고의 지원서가 포함되어 있으면 예외가 발생한다.")
+    void findAllByIdsAndRecruitmentIdWithApplicationOfOtherRecruitment() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        Application application = JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment).application();
+
+        // when & then
+        assertThatThrownBy(() -> applicationDetailsLoader.findAllByIdsAndRecruitmentId(
+                List.of(application.getId()), recruitment.getId() + 1))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("이전 지원서의 서술형, 선택형 답변을 곱집합 없이 각각 별도의 쿼리로 조회한다.")
+    void findNullableByApplicantIdAndRecruitmentIdWithoutCartesianProduct() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        List<NarrativeQuestion> questions = List.of(NARRATIVE_QUESTION(),
+                new NarrativeQuestion(null, INTRODUCTION_QUESTION, false, 2, 100));
+        TestRecruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, questions, List.of(SELECTIVE_QUESTION()));
+        List<NarrativeQuestion> narrativeQuestions = testRecruitment.sections().get(0).getNarrativeQuestions();
+        SelectiveQuestion selectiveQuestion = testRecruitment.sections().get(0).getSelectiveQuestions().get(0);
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        TestApplication testApplication = JONGMEE_APPLICATION(applicant, testRecruitment.recruitment());
+        for (NarrativeQuestion narrativeQuestion : narrativeQuestions) {
+            testApplication.addNarrativeAnswers(narrativeQuestion, "안녕하세요");
+        }
+        for (Choice choice : selectiveQuestion.getChoices()) {
+            testApplication.saveSelectiveAnswers(selectiveQuestion, choice);
+        }
+        int narrativeAnswerCount = narrativeQuestions.size();
+        int selectiveAnswerCount = selectiveQuestion.getChoices().size();
+        statistics.clear();
+
+        // when
+        Application application = applicationDetailsLoader.findNullableByApplicantIdAndRecruitmentId(
+                applicant.getId(), testRecruitment.recruitment().getId()).orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(application.getNarrativeAnswers()).hasSize(narrativeAnswerCount),
+                () -> assertThat(application.getSelectiveAnswers()).hasSize(selectiveAnswerCount),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(
+                        PREVIOUS_APPLICATION_LOADING_QUERY_COUNT),
+                () -> assertThat(statistics.getCollectionFetchCount()).isEqualTo(2),
+                () -> assertThat(statistics.getEntityLoadCount())
+                        .isEqualTo(1 + narrativeAnswerCount + selectiveAnswerCount)
+        );
+    }
+
+    private Application saveApplicationWithAnswers(TestRecruitment testRecruitment, int number) {
+        NarrativeQuestion narrativeQuestion = testRecruitment.sections().get(0).getNarrativeQuestions().get(0);
+        SelectiveQuestion selectiveQuestion = testRecruitment.sections().get(0).getSelectiveQuestions().get(0);
+        Applicant applicant = new TestApplicant(serviceTestEnviron)
+                .create("applicant" + number + "@gmail.com", TEST_PASSWORD)
+                .applicant();
+        return new TestApplication(serviceTestEnviron)
+                .create(applicant, testRecruitment.recruitment(), "2020" + number, "컴퓨터공학", "지원자" + number)
+                .addNarrativeAnswers(narrativeQuestion, "안녕하세요")
+                .saveSelectiveAnswers(selectiveQuestion, selectiveQuestion.getChoices().get(0))
+                .application();
+    }
+}
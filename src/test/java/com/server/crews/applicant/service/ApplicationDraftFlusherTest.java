@@ -0,0 +1,292 @@
+package com.server.crews.applicant.service;
+
+import static com.server.crews.fixture.ApplicationFixture.DEFAULT_MAJOR;
+import static com.server.crews.fixture.ApplicationFixture.DEFAULT_NAME;
+import static com.server.crews.fixture.ApplicationFixture.DEFAULT_STUDENT_NUMBER;
+import static com.server.crews.fixture.QuestionFixture.NARRATIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.SELECTIVE_QUESTION;
+import static com.server.crews.fixture.SectionFixture.BACKEND_SECTION_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.domain.Application;
+import com.server.crews.applicant.domain.ApplicationDraft;
+import com.server.crews.applicant.domain.NarrativeAnswer;
+import com.server.crews.applicant.dto.request.AnswerSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationSectionSaveRequest;
+import com.server.crews.applicant.repository.ApplicationDraftRepository;
+import com.server.crews.applicant.repository.ApplicationRepository;
+import com.server.crews.applicant.repository.NarrativeAnswerRepository;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.auth.domain.Applicant;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.global.lock.DistributedLock;
+import com.server.crews.recruitment.domain.QuestionType;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import com.server.crews.recruitment.service.RecruitmentCloser;
+import com.server.crews.recruitment.service.RecruitmentFormCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicationDraftFlusherTest extends ServiceTest {
+    @Autowired
+    private ApplicationDraftFlusher applicationDraftFlusher;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationDraftRepository applicationDraftRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private NarrativeAnswerRepository narrativeAnswerRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private RecruitmentFormCache recruitmentFormCache;
+
+    @Autowired
+    private RecruitmentCloser recruitmentCloser;
+
+    @Autowired
+    private DistributedLock distributedLock;
+
+    @Test
+    @DisplayName("여러 번 임시 저장된 지원서는 가장 최근 지원서만 반영한다.")
+    void flush() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        applicationService.saveDraftApplication(applicant.getId(), draftSaveRequest(recruitment, "첫 번째 임시 저장"));
+        applicationService.saveDraftApplication(applicant.getId(), draftSaveRequest(recruitment, "두 번째 임시 저장"));
+
+        // when
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        List<Application> applications = applicationRepository.findAll();
+        List<NarrativeAnswer> narrativeAnswers = narrativeAnswerRepository.findAllByApplication(applications.get(0));
+        assertAll(
+                () -> assertThat(applications).hasSize(1),
+                () -> assertThat(narrativeAnswers).extracting(NarrativeAnswer::getContent)
+                        .containsExactly("두 번째 임시 저장"),
+                () -> assertThat(applicationDraftRepository.findByApplicantIdAndRecruitmentCode(applicant.getId(),
+                        recruitment.getCode())).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("반영할 수 없는 임시 저장 지원서는 삭제하지 않고 dead letter로 옮긴다.")
+    void moveInvalidDraftToDeadLetter() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        AnswerSaveRequest invalidAnswerSaveRequest = new AnswerSaveRequest(1L, QuestionType.SELECTIVE.name(),
+                List.of(1L, 2L), null);
+        ApplicationSaveRequest invalidDraft = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER, DEFAULT_MAJOR,
+                DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1L, List.of(invalidAnswerSaveRequest))),
+                recruitment.getCode());
+        applicationDraftRepository.save(applicant.getId(), new ApplicationDraft(invalidDraft, 0L));
+
+        // when
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        assertAll(
+                () -> assertThat(applicationRepository.findAll()).isEmpty(),
+                () -> assertThat(applicationDraftRepository.findDeadLetter(applicant.getId(), recruitment.getCode()))
+                        .map(ApplicationDraft::request)
+                        .contains(invalidDraft)
+        );
+    }
+
+    @Test
+    @DisplayName("이전 반영 작업이 남긴 flushing hash가 있어도 새로 임시 저장된 지원서와 합쳐 반영한다.")
+    void flushWithStaleFlushing() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant jongmee = JONGMEE_APPLICANT().applicant();
+        Applicant kyungho = KYUNGHO_APPLICANT().applicant();
+        applicationService.saveDraftApplication(jongmee.getId(), draftSaveRequest(recruitment, "중단된 반영"));
+        applicationDraftRepository.startFlushing(recruitment.getCode());
+        applicationService.saveDraftApplication(kyungho.getId(), draftSaveRequest(recruitment, "새 임시 저장"));
+
+        // when
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        assertAll(
+                () -> assertThat(applicationRepository.findAll()).hasSize(2),
+                () -> assertThat(applicationDraftRepository.findAllRecruitmentCodes()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("임시 저장 이후에 더 최신 지원서가 저장되었다면 임시 저장된 지원서를 반영하지 않는다.")
+    void skipSupersededDraft() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        ApplicationDraft staleDraft = new ApplicationDraft(draftSaveRequest(recruitment, "이전 임시 저장"), 0L);
+        applicationService.saveApplication(applicant.getId(), draftSaveRequest(recruitment, "최신 저장"), false);
+
+        // when
+        boolean flushed = applicationService.flushDraftApplication(applicant.getId(), staleDraft);
+
+        // then
+        List<Application> applications = applicationRepository.findAll();
+        List<NarrativeAnswer> narrativeAnswers = narrativeAnswerRepository.findAllByApplication(applications.get(0));
+        assertAll(
+                () -> assertThat(flushed).isFalse(),
+                () -> assertThat(narrativeAnswers).extracting(NarrativeAnswer::getContent)
+                        .containsExactly("최신 저장")
+        );
+    }
+
+    @Test
+    @DisplayName("마감 전에 임시 저장된 지원서는 모집 공고를 마감한 뒤에도 반영한다.")
+    void flushAfterClose() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        applicationService.saveDraftApplication(applicant.getId(), draftSaveRequest(recruitment, "마감 전 임시 저장"));
+        recruitmentRepository.updateProgressByIdInAndProgress(List.of(recruitment.getId()),
+                RecruitmentProgress.IN_PROGRESS, RecruitmentProgress.COMPLETION);
+        recruitmentFormCache.invalidate(recruitment.getId());
+
+        // when
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        List<Application> applications = applicationRepository.findAll();
+        List<NarrativeAnswer> narrativeAnswers = narrativeAnswerRepository.findAllByApplication(applications.get(0));
+        assertAll(
+                () -> assertThat(narrativeAnswers).extracting(NarrativeAnswer::getContent)
+                        .containsExactly("마감 전 임시 저장"),
+                () -> assertThat(applicationDraftRepository.findDeadLetter(applicant.getId(), recruitment.getCode()))
+                        .isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("주기적인 반영과 모집 마감이 동시에 실행되어도 마감 전에 임시 저장된 지원서를 반영한다.")
+    void flushWhileClosing() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant jongmee = JONGMEE_APPLICANT().applicant();
+        Applicant kyungho = KYUNGHO_APPLICANT().applicant();
+        applicationService.saveDraftApplication(jongmee.getId(), draftSaveRequest(recruitment, "마감 전 임시 저장"));
+        applicationService.saveDraftApplication(kyungho.getId(), draftSaveRequest(recruitment, "마감 전 임시 저장"));
+
+        // when
+        CompletableFuture<Void> periodicFlush = CompletableFuture.runAsync(() ->
+                applicationDraftFlusher.flush(recruitment.getCode()));
+        CompletableFuture<Boolean> closing = CompletableFuture.supplyAsync(() ->
+                recruitmentCloser.closeIfDue(recruitment.getId(), recruitment.getDeadline()));
+        CompletableFuture.allOf(periodicFlush, closing).join();
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        assertAll(
+                () -> assertThat(closing.join()).isTrue(),
+                () -> assertThat(applicationRepository.findAll()).hasSize(2),
+                () -> assertThat(applicationDraftRepository.findDeadLetter(jongmee.getId(), recruitment.getCode()))
+                        .isEmpty(),
+                () -> assertThat(applicationDraftRepository.findDeadLetter(kyungho.getId(), recruitment.getCode()))
+                        .isEmpty(),
+                () -> assertThat(applicationDraftRepository.findAllRecruitmentCodes()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 반영 작업이 반영 중인 지원서는 반영이 끝날 때까지 flushing hash에 남긴다.")
+    void keepClaimedDraft() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        applicationService.saveDraftApplication(applicant.getId(), draftSaveRequest(recruitment, "임시 저장"));
+        distributedLock.tryAcquire("flushing_application_draft:" + recruitment.getCode() + ":" + applicant.getId(),
+                Duration.ofMinutes(1));
+
+        // when
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        assertAll(
+                () -> assertThat(applicationRepository.findAll()).isEmpty(),
+                () -> assertThat(applicationDraftRepository.findByApplicantIdAndRecruitmentCode(applicant.getId(),
+                        recruitment.getCode())).isPresent(),
+                () -> assertThat(applicationDraftRepository.findAllRecruitmentCodes())
+                        .containsExactly(recruitment.getCode())
+        );
+    }
+
+    @Test
+    @DisplayName("지원서를 제출하면 임시 저장된 지원서를 삭제한다.")
+    void discardDraftOnSubmit() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        applicationService.saveDraftApplication(applicant.getId(), draftSaveRequest(recruitment, "임시 저장"));
+
+        // when
+        applicationService.saveApplication(applicant.getId(), draftSaveRequest(recruitment, "제출"), true);
+        applicationDraftFlusher.flush(recruitment.getCode());
+
+        // then
+        List<Application> applications = applicationRepository.findAll();
+        List<NarrativeAnswer> narrativeAnswers = narrativeAnswerRepository.findAllByApplication(applications.get(0));
+        assertThat(narrativeAnswers).extracting(NarrativeAnswer::getContent)
+                .containsExactly("제출");
+    }
+
+    private ApplicationSaveRequest draftSaveRequest(Recruitment recruitment, String content) {
+        AnswerSaveRequest answerSaveRequest = new AnswerSaveRequest(1L, QuestionType.NARRATIVE.name(), null, content);
+        return new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER, DEFAULT_MAJOR, DEFAULT_NAME,
+                List.of(new ApplicationSectionSaveRequest(1L, List.of(answerSaveRequest))), recruitment.getCode());
+    }
+}
@@ -0,0 +1,133 @@
+package com.server.crews.applicant.service;
+
+import static com.server.crews.fixture.QuestionFixture.BRIGHT_CHOICE;
+import static com.server.crews.fixture.QuestionFixture.FAITHFUL_CHOICE;
+import static com.server.crews.fixture.QuestionFixture.INTRODUCTION_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.NARRATIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.SELECTIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.STRENGTH_QUESTION;
+import static com.server.crews.fixture.SectionFixture.BACKEND_SECTION_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.applicant.dto.request.ApplicationExportFormat;
+import com.server.crews.applicant.dto.response.AnswerResponse;
+import com.server.crews.applicant.dto.response.ApplicationExportResponse;
+import com.server.crews.applicant.dto.response.SectionAnswerResponse;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.environ.service.TestRecruitment;
+import com.server.crews.recruitment.domain.Choice;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicationExporterTest extends ServiceTest {
+    @Autowired
+    private ApplicationExporter applicationExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String FORMULA_ANSWER = "=HYPERLINK(\"http://example.com\")";
+
+    private Administrator publisher;
+    private List<Choice> choices;
+
+    @BeforeEach
+    void setUpApplications() {
+        publisher = LIKE_LION_ADMIN().administrator();
+        TestRecruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()));
+        Recruitment recruitment = testRecruitment.recruitment();
+        NarrativeQuestion narrativeQuestion = testRecruitment.sections().get(0).getNarrativeQuestions().get(0);
+        SelectiveQuestion selectiveQuestion = testRecruitment.sections().get(0).getSelectiveQuestions().get(0);
+        choices = selectiveQuestion.getOrderedChoices();
+
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment)
+                .addNarrativeAnswers(narrativeQuestion, "안녕하세요, \"종미\"입니다")
+                .saveSelectiveAnswers(selectiveQuestion, choices.get(0))
+                .saveSelectiveAnswers(selectiveQuestion, choices.get(1))
+                .pass();
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment)
+                .addNarrativeAnswers(narrativeQuestion, FORMULA_ANSWER);
+    }
+
+    @Test
+    @DisplayName("모든 지원서를 답변과 함께 문항 순서대로 CSV로 내보낸다.")
+    void exportCsv() throws IOException {
+        // given
+        Recruitment recruitment = applicationExporter.findRecruitment(publisher.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        applicationExporter.export(recruitment, ApplicationExportFormat.CSV, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertAll(
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines.get(0)).contains("학번,전공,이름,결과")
+                        .contains(INTRODUCTION_QUESTION, STRENGTH_QUESTION),
+                () -> assertThat(lines.get(1)).startsWith("20202020,생명과학,종미,PASS")
+                        .contains("\"안녕하세요, \"\"종미\"\"입니다\"")
+                        .contains("\"" + FAITHFUL_CHOICE + ", " + BRIGHT_CHOICE + "\""),
+                () -> assertThat(lines.get(2)).startsWith("20202021,컴퓨터공학,경호,PENDING")
+        );
+    }
+
+    @Test
+    @DisplayName("수식으로 해석되는 문자로 시작하는 값은 앞에 '를 붙여 CSV로 내보낸다.")
+    void exportCsvWithFormula() throws IOException {
+        // given
+        Recruitment recruitment = applicationExporter.findRecruitment(publisher.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        applicationExporter.export(recruitment, ApplicationExportFormat.CSV, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(2)).contains("\"'=HYPERLINK(\"\"http://example.com\"\")\"");
+    }
+
+    @Test
+    @DisplayName("모든 지원서를 한 줄에 하나씩 JSON으로 내보낸다.")
+    void exportJsonLines() throws IOException {
+        // given
+        Recruitment recruitment = applicationExporter.findRecruitment(publisher.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        applicationExporter.export(recruitment, ApplicationExportFormat.JSON_LINES, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        ApplicationExportResponse jongmeeApplication = objectMapper.readValue(lines.get(0),
+                ApplicationExportResponse.class);
+        List<AnswerResponse> answerResponses = jongmeeApplication.sections()
+                .stream()
+                .map(SectionAnswerResponse::answers)
+                .flatMap(Collection::stream)
+                .toList();
+        assertAll(
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(jongmeeApplication.name()).isEqualTo("종미"),
+                () -> assertThat(answerResponses).extracting(AnswerResponse::content)
+                        .contains("안녕하세요, \"종미\"입니다"),
+                () -> assertThat(answerResponses).filteredOn(answer -> answer.choiceIds() != null)
+                        .flatExtracting(AnswerResponse::choiceIds)
+                        .containsExactly(choices.get(0).getId(), choices.get(1).getId())
+        );
+    }
+}
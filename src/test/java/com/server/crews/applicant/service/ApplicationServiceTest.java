@@ -4,11 +4,16 @@ import static com.server.crews.fixture.ApplicationFixture.DEFAULT_MAJOR;
 import static com.server.crews.fixture.ApplicationFixture.DEFAULT_NAME;
 import static com.server.crews.fixture.ApplicationFixture.DEFAULT_NARRATIVE_ANSWER;
 import static com.server.crews.fixture.ApplicationFixture.DEFAULT_STUDENT_NUMBER;
+import static com.server.crews.fixture.QuestionFixture.CHOICES;
+import static com.server.crews.fixture.QuestionFixture.INTRODUCTION_QUESTION;
 import static com.server.crews.fixture.QuestionFixture.NARRATIVE_QUESTION;
 import static com.server.crews.fixture.QuestionFixture.SELECTIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.STRENGTH_QUESTION;
 import static com.server.crews.fixture.SectionFixture.BACKEND_SECTION_NAME;
 import static com.server.crews.fixture.SectionFixture.FRONTEND_SECTION_NAME;
+import static com.server.crews.fixture.UserFixture.TEST_PASSWORD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.server.crews.applicant.domain.Application;
@@ -18,9 +23,16 @@ import com.server.crews.applicant.domain.SelectiveAnswer;
 import com.server.crews.applicant.dto.request.AnswerSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSaveRequest;
 import com.server.crews.applicant.dto.request.ApplicationSectionSaveRequest;
+import com.server.crews.applicant.dto.request.ApplicationSortType;
+import com.server.crews.applicant.dto.request.EvaluationPatchRequest;
 import com.server.crews.applicant.dto.request.EvaluationRequest;
+import com.server.crews.applicant.dto.request.OutcomePatchRequest;
 import com.server.crews.applicant.dto.response.AnswerResponse;
+import com.server.crews.applicant.dto.response.ApplicationAckResponse;
 import com.server.crews.applicant.dto.response.ApplicationDetailsResponse;
+import com.server.crews.applicant.dto.response.ApplicationsPage;
+import com.server.crews.applicant.dto.response.ApplicationsResponse;
+import com.server.crews.applicant.dto.response.OutcomeCountResponse;
 import com.server.crews.applicant.dto.response.SectionAnswerResponse;
 import com.server.crews.applicant.repository.ApplicationRepository;
 import com.server.crews.applicant.repository.NarrativeAnswerRepository;
@@ -28,25 +40,39 @@ import com.server.crews.applicant.repository.SelectiveAnswerRepository;
 import com.server.crews.auth.domain.Administrator;
 import com.server.crews.auth.domain.Applicant;
 import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.environ.service.ServiceTestEnviron;
+import com.server.crews.environ.service.TestApplicant;
+import com.server.crews.environ.service.TestApplication;
 import com.server.crews.environ.service.TestRecruitment;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
 import com.server.crews.recruitment.domain.Choice;
 import com.server.crews.recruitment.domain.NarrativeQuestion;
 import com.server.crews.recruitment.domain.QuestionType;
 import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
 import com.server.crews.recruitment.domain.Section;
 import com.server.crews.recruitment.domain.SelectiveQuestion;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 class ApplicationServiceTest extends ServiceTest {
+    private static final long DECIDING_OUTCOME_QUERY_COUNT = 3;
+
     @Autowired
     private ApplicationService applicationService;
 
@@ -59,6 +85,15 @@ class ApplicationServiceTest extends ServiceTest {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ServiceTestEnviron serviceTestEnviron;
+
     @ParameterizedTest
     @MethodSource("provideAnswersAndCount")
     @DisplayName("답변을 작성한 지원서를 저장한다.")
@@ -79,7 +114,7 @@ class ApplicationServiceTest extends ServiceTest {
 
         // when
         ApplicationDetailsResponse applicationDetailsResponse = applicationService.saveApplication(applicant.getId(),
-                saveRequest);
+                saveRequest, false);
 
         // then
         Application application = applicationRepository.findById(applicationDetailsResponse.id()).get();
@@ -112,6 +147,154 @@ class ApplicationServiceTest extends ServiceTest {
                         new ApplicationSectionSaveRequest(1l, List.of(narrativeAnswerSaveRequest))), 1, 0));
     }
 
+    @Test
+    @DisplayName("다시 저장한 지원서는 이전 답변과 달라진 답변만 반영한다.")
+    void saveApplicationWithPreviousAnswers() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION(), NARRATIVE_QUESTION()),
+                        List.of(new SelectiveQuestion(null, CHOICES(), STRENGTH_QUESTION, false, 1, 1, 2)))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+
+        ApplicationSaveRequest firstSaveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1L, List.of(
+                new AnswerSaveRequest(1L, QuestionType.NARRATIVE.name(), null, "첫 번째 답변"),
+                new AnswerSaveRequest(2L, QuestionType.NARRATIVE.name(), null, "두 번째 답변"),
+                new AnswerSaveRequest(1L, QuestionType.SELECTIVE.name(), List.of(1L, 2L), null)))),
+                recruitment.getCode());
+        Long applicationId = applicationService.saveApplication(applicant.getId(), firstSaveRequest, false).id();
+
+        ApplicationSaveRequest secondSaveRequest = new ApplicationSaveRequest(applicationId, DEFAULT_STUDENT_NUMBER,
+                "변경된 전공", DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1L, List.of(
+                new AnswerSaveRequest(1L, QuestionType.NARRATIVE.name(), null, "수정된 답변"),
+                new AnswerSaveRequest(1L, QuestionType.SELECTIVE.name(), List.of(2L, 3L), null)))),
+                recruitment.getCode());
+
+        // when
+        applicationService.saveApplication(applicant.getId(), secondSaveRequest, false);
+
+        // then
+        Application application = applicationRepository.findById(applicationId).get();
+        List<NarrativeAnswer> savedNarrativeAnswers = narrativeAnswerRepository.findAllByApplication(application);
+        List<SelectiveAnswer> savedSelectiveAnswers = selectiveAnswerRepository.findAllByApplication(application);
+        assertAll(
+                () -> assertThat(application.getMajor()).isEqualTo("변경된 전공"),
+                () -> assertThat(applicationRepository.count()).isEqualTo(1),
+                () -> assertThat(savedNarrativeAnswers).extracting(NarrativeAnswer::getContent)
+                        .containsExactly("수정된 답변"),
+                () -> assertThat(savedSelectiveAnswers).extracting(SelectiveAnswer::getChoiceId)
+                        .containsExactlyInAnyOrder(2L, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("평가된 지원서를 다시 저장하면 지원 결과를 대기 상태로 되돌린다.")
+    void saveEvaluatedApplication() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        Application application = JONGMEE_APPLICATION(applicant, recruitment).pass().application();
+        ApplicationSaveRequest saveRequest = new ApplicationSaveRequest(application.getId(), DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1L, List.of(
+                new AnswerSaveRequest(1L, QuestionType.NARRATIVE.name(), null, "다시 저장한 답변")))),
+                recruitment.getCode());
+
+        // when
+        applicationService.saveApplication(applicant.getId(), saveRequest, false);
+
+        // then
+        assertThat(applicationRepository.findById(application.getId()).get().getOutcome())
+                .isEqualTo(Outcome.PENDING);
+    }
+
+    @Test
+    @DisplayName("필수 답변이 없는 지원서는 저장할 수 있지만 제출할 수 없다.")
+    void submitApplicationWithoutRequiredAnswer() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(new NarrativeQuestion(null, INTRODUCTION_QUESTION, true,
+                        1, 100)), List.of())
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        ApplicationSaveRequest saveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(), recruitment.getCode());
+        applicationService.saveApplication(applicant.getId(), saveRequest, false);
+
+        // when & then
+        assertThatThrownBy(() -> applicationService.saveApplication(applicant.getId(), saveRequest, true))
+                .isInstanceOf(CrewsException.class)
+                .hasMessage(CrewsErrorCode.ANSWER_REQUIRED.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 마감되어 캐시된 모집 공고가 진행 중으로 남아 있어도 지원서를 저장하지 않는다.")
+    void saveApplicationWithStaleRecruitmentCache() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of())
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        ApplicationSaveRequest saveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(), recruitment.getCode());
+        applicationService.saveApplication(applicant.getId(), saveRequest, false);
+        recruitmentRepository.updateProgressByIdInAndProgress(List.of(recruitment.getId()),
+                RecruitmentProgress.IN_PROGRESS, RecruitmentProgress.COMPLETION);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() ->
+                        applicationService.saveApplication(applicant.getId(), saveRequest, false))
+                        .isInstanceOf(CrewsException.class)
+                        .hasMessage(CrewsErrorCode.RECRUITMENT_CLOSED.getMessage()),
+                () -> assertThatThrownBy(() ->
+                        applicationService.saveDraftApplication(applicant.getId(), saveRequest))
+                        .isInstanceOf(CrewsException.class)
+                        .hasMessage(CrewsErrorCode.RECRUITMENT_CLOSED.getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("지원서를 저장할 때마다 지원서 id와 1씩 증가한 리비전을 반환한다.")
+    void saveApplicationWithAck() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher)
+                .addSection(BACKEND_SECTION_NAME, List.of(NARRATIVE_QUESTION()), List.of(SELECTIVE_QUESTION()))
+                .start()
+                .recruitment();
+        Applicant applicant = JONGMEE_APPLICANT().applicant();
+        ApplicationSaveRequest saveRequest = new ApplicationSaveRequest(null, DEFAULT_STUDENT_NUMBER,
+                DEFAULT_MAJOR, DEFAULT_NAME, List.of(new ApplicationSectionSaveRequest(1L, List.of(
+                new AnswerSaveRequest(1L, QuestionType.NARRATIVE.name(), null, "자동 저장된 답변")))),
+                recruitment.getCode());
+        ApplicationAckResponse firstAckResponse = applicationService.saveApplicationWithAck(applicant.getId(),
+                saveRequest, false);
+
+        // when
+        ApplicationAckResponse secondAckResponse = applicationService.saveApplicationWithAck(applicant.getId(),
+                saveRequest, false);
+
+        // then
+        assertAll(
+                () -> assertThat(firstAckResponse.revision()).isEqualTo(1),
+                () -> assertThat(secondAckResponse.id()).isEqualTo(firstAckResponse.id()),
+                () -> assertThat(secondAckResponse.revision()).isEqualTo(2),
+                () -> assertThat(applicationRepository.findById(firstAckResponse.id()).get().getRevision())
+                        .isEqualTo(2)
+        );
+    }
+
     @Test
     @DisplayName("지원자의 모든 서술형, 선택형 문항 답변을 조회한다.")
     void findApplicationDetails() {
@@ -154,6 +337,71 @@ class ApplicationServiceTest extends ServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("지원서 목록을 정렬 기준에 따라 커서로 한 페이지씩 조회한다.")
+    void findApplicationsByPublisher() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment);
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+
+        // when
+        ApplicationsPage firstPage = applicationService.findApplicationsByPublisher(publisher.getId(), null,
+                ApplicationSortType.NAME, null, 1);
+        ApplicationsPage secondPage = applicationService.findApplicationsByPublisher(publisher.getId(), null,
+                ApplicationSortType.NAME, firstPage.nextCursor(), 1);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.applications()).extracting(ApplicationsResponse::name)
+                        .containsExactly("경호"),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondPage.applications()).extracting(ApplicationsResponse::name)
+                        .containsExactly("종미"),
+                () -> assertThat(secondPage.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("커서와 페이지 크기 없이 조회하면 지원서 목록 전체를 조회한다.")
+    void findAllApplicationsByPublisher() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment);
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+
+        // when
+        ApplicationsPage page = applicationService.findApplicationsByPublisher(publisher.getId(), null,
+                ApplicationSortType.NAME, null, null);
+
+        // then
+        assertAll(
+                () -> assertThat(page.applications()).extracting(ApplicationsResponse::name)
+                        .containsExactly("경호", "종미"),
+                () -> assertThat(page.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("지원 결과로 지원서 목록을 필터링한다.")
+    void findApplicationsByPublisherAndOutcome() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment).pass();
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+
+        // when
+        ApplicationsPage page = applicationService.findApplicationsByPublisher(publisher.getId(), Outcome.PASS,
+                ApplicationSortType.ID, null, 50);
+
+        // then
+        assertThat(page.applications()).extracting(ApplicationsResponse::name)
+                .containsExactly("종미");
+    }
+
     @Test
     @DisplayName("지원자들을 평가한다.")
     void decideOutcome() {
@@ -171,11 +419,78 @@ class ApplicationServiceTest extends ServiceTest {
         applicationService.decideOutcome(evaluationRequest, publisher.getId());
 
         // then
-        List<Application> applications = applicationRepository.findAllWithRecruitmentByPublisherId(
-                testRecruitment.getId());
+        List<Application> applications = applicationRepository.findAll();
         applications.sort(Comparator.comparingLong(Application::getId));
         assertThat(applications).hasSize(2)
                 .extracting(Application::getOutcome)
                 .containsExactly(Outcome.FAIL, Outcome.PASS);
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 10})
+    @DisplayName("지원자 수와 관계없이 일정한 수의 쿼리로 지원자들을 평가한다.")
+    void decideOutcomeWithConstantQueryCount(int applicationCount) {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        List<Long> applicationIds = IntStream.range(0, applicationCount)
+                .mapToObj(number -> new TestApplicant(serviceTestEnviron)
+                        .create("applicant" + number + "@gmail.com", TEST_PASSWORD)
+                        .applicant())
+                .map(applicant -> new TestApplication(serviceTestEnviron)
+                        .create(applicant, testRecruitment, DEFAULT_STUDENT_NUMBER, DEFAULT_MAJOR, DEFAULT_NAME)
+                        .application()
+                        .getId())
+                .toList();
+        EvaluationRequest evaluationRequest = new EvaluationRequest(List.of(applicationIds.get(0)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        applicationService.decideOutcome(evaluationRequest, publisher.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(DECIDING_OUTCOME_QUERY_COUNT),
+                () -> assertThat(applicationRepository.findAllById(applicationIds))
+                        .extracting(Application::getOutcome)
+                        .containsOnlyOnce(Outcome.PASS)
+                        .contains(Outcome.FAIL)
+        );
+    }
+
+    @Test
+    @DisplayName("요청에 포함된 지원서의 평가만 변경하고 지원 결과별 지원서 수를 반환한다.")
+    void patchOutcomes() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        Application jongmeeApplication = JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), testRecruitment)
+                .pass()
+                .application();
+        Application kyunghoApplication = KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), testRecruitment)
+                .application();
+
+        EvaluationPatchRequest evaluationPatchRequest = new EvaluationPatchRequest(List.of(
+                new OutcomePatchRequest(kyunghoApplication.getId(), Outcome.PASS),
+                new OutcomePatchRequest(kyunghoApplication.getId(), Outcome.FAIL)));
+
+        // when
+        OutcomeCountResponse outcomeCountResponse = applicationService.patchOutcomes(evaluationPatchRequest,
+                publisher.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(outcomeCountResponse).isEqualTo(new OutcomeCountResponse(1, 1, 0)),
+                () -> assertThat(applicationRepository.findById(jongmeeApplication.getId()))
+                        .get()
+                        .extracting(Application::getOutcome)
+                        .isEqualTo(Outcome.PASS),
+                () -> assertThat(applicationRepository.findById(kyunghoApplication.getId()))
+                        .get()
+                        .extracting(Application::getOutcome)
+                        .isEqualTo(Outcome.FAIL)
+        );
+    }
 }
@@ -0,0 +1,62 @@
+package com.server.crews.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.auth.domain.RefreshToken;
+import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.domain.VerifiedToken;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Clock;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+    private static final String SECRET = "Y3Jld3MtdGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tcHJvdmlkZXItdW5pdC10ZXN0LTAxMjM0NTY3ODk=";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 120_000,
+            new VerifiedTokenCache(false, 0, Clock.systemDefaultZone()));
+
+    @Test
+    @DisplayName("액세스 토큰을 한 번 검증해 권한, 사용자 이름, 만료 시간을 얻는다.")
+    void verifyAccessToken() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken(Role.ADMIN, "LIKE_LION");
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+
+        // then
+        assertAll(
+                () -> assertThat(verifiedToken.algorithm()).isEqualTo(SignatureAlgorithm.HS256),
+                () -> assertThat(verifiedToken.role()).isEqualTo(Role.ADMIN),
+                () -> assertThat(verifiedToken.subject()).isEqualTo("LIKE_LION"),
+                () -> assertThat(verifiedToken.expiration()).isAfter(Instant.now())
+        );
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 액세스 토큰으로 검증하면 예외가 발생한다.")
+    void verifyRefreshTokenAsAccessToken() {
+        // given
+        RefreshToken refreshToken = jwtTokenProvider.createRefreshToken(Role.APPLICANT, "mia");
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken(refreshToken.getToken()))
+                .isInstanceOf(CrewsException.class)
+                .hasMessage(CrewsErrorCode.INVALID_ACCESS_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰을 검증하면 예외가 발생한다.")
+    void verifyMalformedToken() {
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken("malformed.token"))
+                .isInstanceOf(CrewsException.class)
+                .hasMessage(CrewsErrorCode.MALFORMED_JWT.getMessage());
+    }
+}
@@ -0,0 +1,99 @@
+package com.server.crews.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.dto.LoginUser;
+import com.server.crews.global.cache.CacheStats;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginUserCacheTest {
+    private final Clock clock = Clock.fixed(Instant.parse("2030-09-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("인증 사용자는 최초 조회 이후 캐시에서 조회한다.")
+    void getOrLoad() {
+        // given
+        LoginUserCache loginUserCache = new LoginUserCache(10, 60_000, clock);
+        LoginUser loginUser = new LoginUser(1L, "LIKE_LION", Role.ADMIN);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        loginUserCache.getOrLoad(Role.ADMIN, "LIKE_LION", () -> countLoad(loadCount, loginUser));
+        LoginUser cachedLoginUser = loginUserCache.getOrLoad(Role.ADMIN, "LIKE_LION",
+                () -> countLoad(loadCount, loginUser));
+
+        // then
+        CacheStats stats = loginUserCache.stats();
+        assertAll(
+                () -> assertThat(cachedLoginUser).isEqualTo(loginUser),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(stats.hitCount()).isEqualTo(1),
+                () -> assertThat(stats.missCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 사용자 이름이라도 권한이 다르면 따로 조회한다.")
+    void getOrLoadByRole() {
+        // given
+        LoginUserCache loginUserCache = new LoginUserCache(10, 60_000, clock);
+        loginUserCache.getOrLoad(Role.ADMIN, "mia", () -> new LoginUser(1L, "mia", Role.ADMIN));
+
+        // when
+        LoginUser loginUser = loginUserCache.getOrLoad(Role.APPLICANT, "mia",
+                () -> new LoginUser(2L, "mia", Role.APPLICANT));
+
+        // then
+        assertAll(
+                () -> assertThat(loginUser.userId()).isEqualTo(2L),
+                () -> assertThat(loginUserCache.stats().size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("로그아웃한 사용자 이름의 인증 정보를 모든 권한에서 무효화한다.")
+    void invalidate() {
+        // given
+        LoginUserCache loginUserCache = new LoginUserCache(10, 60_000, clock);
+        loginUserCache.getOrLoad(Role.ADMIN, "mia", () -> new LoginUser(1L, "mia", Role.ADMIN));
+        loginUserCache.getOrLoad(Role.APPLICANT, "mia", () -> new LoginUser(2L, "mia", Role.APPLICANT));
+        loginUserCache.getOrLoad(Role.APPLICANT, "kh", () -> new LoginUser(3L, "kh", Role.APPLICANT));
+
+        // when
+        loginUserCache.invalidate("mia");
+
+        // then
+        assertThat(loginUserCache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 시간이 지난 인증 사용자는 다시 조회한다.")
+    void getOrLoadExpiredLoginUser() {
+        // given
+        LoginUserCache loginUserCache = new LoginUserCache(10, 0, clock);
+        LoginUser loginUser = new LoginUser(1L, "LIKE_LION", Role.ADMIN);
+        AtomicInteger loadCount = new AtomicInteger();
+        loginUserCache.getOrLoad(Role.ADMIN, "LIKE_LION", () -> countLoad(loadCount, loginUser));
+
+        // when
+        loginUserCache.getOrLoad(Role.ADMIN, "LIKE_LION", () -> countLoad(loadCount, loginUser));
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(2),
+                () -> assertThat(loginUserCache.stats().evictionCount()).isEqualTo(1)
+        );
+    }
+
+    private LoginUser countLoad(AtomicInteger loadCount, LoginUser loginUser) {
+        loadCount.incrementAndGet();
+        return loginUser;
+    }
+}
@@ -0,0 +1,109 @@
+package com.server.crews.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.auth.domain.Role;
+import com.server.crews.auth.domain.VerifiedToken;
+import com.server.crews.global.cache.CacheStats;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2030-09-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("같은 토큰은 최초 검증 이후 저장된 검증 결과를 사용한다.")
+    void getOrVerify() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 10, clock);
+        VerifiedToken verifiedToken = verifiedToken(NOW.plusSeconds(60));
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        verifiedTokenCache.getOrVerify("token", token -> countVerify(verifyCount, verifiedToken));
+        VerifiedToken cachedToken = verifiedTokenCache.getOrVerify("token",
+                token -> countVerify(verifyCount, verifiedToken));
+
+        // then
+        CacheStats stats = verifiedTokenCache.stats();
+        assertAll(
+                () -> assertThat(cachedToken).isEqualTo(verifiedToken),
+                () -> assertThat(verifyCount.get()).isEqualTo(1),
+                () -> assertThat(stats.hitRate()).isEqualTo(0.5)
+        );
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 토큰은 저장된 결과를 사용하지 않고 다시 검증한다.")
+    void getOrVerifyExpiredToken() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 10, clock);
+        VerifiedToken verifiedToken = verifiedToken(NOW.minusMillis(1));
+        AtomicInteger verifyCount = new AtomicInteger();
+        verifiedTokenCache.getOrVerify("token", token -> countVerify(verifyCount, verifiedToken));
+
+        // when
+        verifiedTokenCache.getOrVerify("token", token -> countVerify(verifyCount, verifiedToken));
+
+        // then
+        assertAll(
+                () -> assertThat(verifyCount.get()).isEqualTo(2),
+                () -> assertThat(verifiedTokenCache.stats().evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 검증 결과를 제거한다.")
+    void evictLeastRecentlyUsedToken() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 1, clock);
+        VerifiedToken verifiedToken = verifiedToken(NOW.plusSeconds(60));
+
+        // when
+        verifiedTokenCache.getOrVerify("first token", token -> verifiedToken);
+        verifiedTokenCache.getOrVerify("second token", token -> verifiedToken);
+
+        // then
+        CacheStats stats = verifiedTokenCache.stats();
+        assertAll(
+                () -> assertThat(stats.size()).isEqualTo(1),
+                () -> assertThat(stats.evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("캐시를 사용하지 않으면 매번 검증한다.")
+    void getOrVerifyWhenDisabled() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(false, 10, clock);
+        VerifiedToken verifiedToken = verifiedToken(NOW.plusSeconds(60));
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        verifiedTokenCache.getOrVerify("token", token -> countVerify(verifyCount, verifiedToken));
+        verifiedTokenCache.getOrVerify("token", token -> countVerify(verifyCount, verifiedToken));
+
+        // then
+        assertAll(
+                () -> assertThat(verifyCount.get()).isEqualTo(2),
+                () -> assertThat(verifiedTokenCache.stats().size()).isZero()
+        );
+    }
+
+    private VerifiedToken verifiedToken(Instant expiration) {
+        return new VerifiedToken(SignatureAlgorithm.HS256, Role.ADMIN, "LIKE_LION", expiration);
+    }
+
+    private VerifiedToken countVerify(AtomicInteger verifyCount, VerifiedToken verifiedToken) {
+        verifyCount.incrementAndGet();
+        return verifiedToken;
+    }
+}
@@ -4,14 +4,18 @@ import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_CODE;
 import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DEADLINE;
 import static com.server.crews.fixture.UserFixture.TEST_PASSWORD;
 
+import com.server.crews.applicant.service.ApplicationManager;
 import com.server.crews.auth.domain.Administrator;
 import com.server.crews.auth.domain.Applicant;
+import com.server.crews.auth.service.LoginUserCache;
 import com.server.crews.environ.DatabaseCleaner;
 import com.server.crews.environ.repository.TestRepository;
 import com.server.crews.external.application.EmailService;
 import com.server.crews.external.application.SlackBugAlertService;
 import com.server.crews.global.config.DatabaseInitializer;
 import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.service.RecruitmentDetailsResponseCache;
+import com.server.crews.recruitment.service.RecruitmentFormCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -21,7 +25,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.NONE,
-        properties = {"schedules.cron.closing-recruitment=0 0 0 31 2 ?"}
+        properties = {"schedules.cron.closing-recruitment=0 0 0 31 2 ?", "email.outbox.poll-interval=86400000"}
 )
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public abstract class ServiceTest {
@@ -34,6 +38,18 @@ public abstract class ServiceTest {
     @Autowired
     private ServiceTestEnviron serviceTestEnviron;
 
+    @Autowired
+    private RecruitmentFormCache recruitmentFormCache;
+
+    @Autowired
+    private RecruitmentDetailsResponseCache recruitmentDetailsResponseCache;
+
+    @Autowired
+    private LoginUserCache loginUserCache;
+
+    @Autowired
+    private ApplicationManager applicationManager;
+
     @MockBean
     private TestRepository testRepository;
 
@@ -52,6 +68,10 @@ public abstract class ServiceTest {
         redisTemplate.getConnectionFactory()
                 .getConnection()
                 .flushDb();
+        recruitmentFormCache.clear();
+        recruitmentDetailsResponseCache.clear();
+        loginUserCache.clear();
+        applicationManager.clear();
     }
 
     protected TestRecruitment LIKE_LION_RECRUITMENT(Administrator publisher) {
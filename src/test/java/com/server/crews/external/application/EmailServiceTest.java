@@ -0,0 +1,140 @@
+package com.server.crews.external.application;
+
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.domain.Outcome;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class EmailServiceTest {
+    private final OutcomeAnnouncement announcement = new OutcomeAnnouncement(1L, DEFAULT_TITLE, "LIKE LION");
+
+    @Test
+    @DisplayName("한 번의 연결로 청크의 모든 수신자에게 메일을 발송한다.")
+    void deliver() {
+        // given
+        FakeMailSender mailSender = new FakeMailSender(Map.of());
+        EmailService emailService = new EmailService(mailSender, new OutcomeEmailRenderer(templateEngine(), 10), 3, 0, 2);
+        List<EmailRecipient> recipients = List.of(
+                new EmailRecipient(1L, "jongmee@gmail.com", "종미", Outcome.PASS),
+                new EmailRecipient(2L, "kyungho@gmail.com", "경호", Outcome.FAIL));
+
+        // when
+        List<EmailDeliveryStatus> deliveryStatuses = emailService.deliver(recipients, announcement);
+
+        // then
+        assertAll(
+                () -> assertThat(mailSender.sendCount).isEqualTo(1),
+                () -> assertThat(deliveryStatuses).containsExactlyInAnyOrder(
+                        new EmailDeliveryStatus(1L, "jongmee@gmail.com", true, 1),
+                        new EmailDeliveryStatus(2L, "kyungho@gmail.com", true, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 수신자에게만 메일을 다시 발송한다.")
+    void retryFailedRecipient() {
+        // given
+        FakeMailSender mailSender = new FakeMailSender(Map.of("kyungho@gmail.com", 1));
+        EmailService emailService = new EmailService(mailSender, new OutcomeEmailRenderer(templateEngine(), 10), 3, 0, 2);
+        List<EmailRecipient> recipients = List.of(
+                new EmailRecipient(1L, "jongmee@gmail.com", "종미", Outcome.PASS),
+                new EmailRecipient(2L, "kyungho@gmail.com", "경호", Outcome.FAIL));
+
+        // when
+        List<EmailDeliveryStatus> deliveryStatuses = emailService.deliver(recipients, announcement);
+
+        // then
+        assertAll(
+                () -> assertThat(mailSender.sentRecipients).containsExactlyInAnyOrder(
+                        "jongmee@gmail.com", "kyungho@gmail.com"),
+                () -> assertThat(deliveryStatuses).containsExactlyInAnyOrder(
+                        new EmailDeliveryStatus(1L, "jongmee@gmail.com", true, 1),
+                        new EmailDeliveryStatus(2L, "kyungho@gmail.com", true, 2))
+        );
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패한 수신자는 발송 실패로 남긴다.")
+    void failAfterMaxAttempts() {
+        // given
+        FakeMailSender mailSender = new FakeMailSender(Map.of("kyungho@gmail.com", Integer.MAX_VALUE));
+        EmailService emailService = new EmailService(mailSender, new OutcomeEmailRenderer(templateEngine(), 10), 3, 0, 2);
+        List<EmailRecipient> recipients = List.of(new EmailRecipient(2L, "kyungho@gmail.com", "경호", Outcome.FAIL));
+
+        // when
+        List<EmailDeliveryStatus> deliveryStatuses = emailService.deliver(recipients, announcement);
+
+        // then
+        assertAll(
+                () -> assertThat(mailSender.sendCount).isEqualTo(3),
+                () -> assertThat(deliveryStatuses).containsExactly(
+                        new EmailDeliveryStatus(2L, "kyungho@gmail.com", false, 3))
+        );
+    }
+
+    private SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+
+    /*
+        수신자별로 지정한 횟수만큼 발송에 실패하는 메일 발송기이다.
+     */
+    private static class FakeMailSender extends JavaMailSenderImpl {
+        private final Map<String, Integer> remainingFailures;
+        private final List<String> sentRecipients = new ArrayList<>();
+        private int sendCount;
+
+        FakeMailSender(Map<String, Integer> remainingFailures) {
+            this.remainingFailures = new HashMap<>(remainingFailures);
+        }
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            sendCount++;
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            for (MimeMessage mimeMessage : mimeMessages) {
+                String recipient = recipientOf(mimeMessage);
+                int failures = remainingFailures.getOrDefault(recipient, 0);
+                if (failures > 0) {
+                    remainingFailures.put(recipient, failures - 1);
+                    failedMessages.put(mimeMessage, new MessagingException("fake failure"));
+                    continue;
+                }
+                sentRecipients.add(recipient);
+            }
+            if (!failedMessages.isEmpty()) {
+                throw new MailSendException(failedMessages);
+            }
+        }
+
+        private String recipientOf(MimeMessage mimeMessage) {
+            try {
+                return mimeMessage.getAllRecipients()[0].toString();
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
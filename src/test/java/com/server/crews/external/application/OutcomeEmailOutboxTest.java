@@ -0,0 +1,94 @@
+package com.server.crews.external.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.domain.Application;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.external.domain.OutcomeEmail;
+import com.server.crews.external.domain.OutcomeEmailStatus;
+import com.server.crews.external.repository.OutcomeEmailRepository;
+import com.server.crews.recruitment.domain.Recruitment;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class OutcomeEmailOutboxTest extends ServiceTest {
+    @Autowired
+    private OutcomeEmailOutbox outcomeEmailOutbox;
+
+    @Autowired
+    private OutcomeEmailRepository outcomeEmailRepository;
+
+    @Test
+    @DisplayName("모집 공고의 모든 지원서에 대해 결과 메일 발송 작업을 저장한다.")
+    void saveAll() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment).pass();
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+
+        // when
+        int savedCount = outcomeEmailOutbox.saveAll(recruitment.getId());
+
+        // then
+        List<OutcomeEmail> outcomeEmails = outcomeEmailRepository.findAllByRecruitmentId(recruitment.getId());
+        assertAll(
+                () -> assertThat(savedCount).isEqualTo(2),
+                () -> assertThat(outcomeEmails).extracting(OutcomeEmail::getEmail)
+                        .containsExactlyInAnyOrder("JONGMEE@gmail.com", "KYUNGHO@gmail.com"),
+                () -> assertThat(outcomeEmails).allMatch(OutcomeEmail::isPending)
+        );
+    }
+
+    @Test
+    @DisplayName("점유한 발송 작업은 점유 기한 동안 다시 가져갈 수 없다.")
+    void claim() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment);
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+        outcomeEmailOutbox.saveAll(recruitment.getId());
+
+        // when
+        List<OutcomeEmail> firstClaimed = outcomeEmailOutbox.claim(1);
+        List<OutcomeEmail> secondClaimed = outcomeEmailOutbox.claim(10);
+        List<OutcomeEmail> thirdClaimed = outcomeEmailOutbox.claim(10);
+
+        // then
+        assertAll(
+                () -> assertThat(firstClaimed).hasSize(1),
+                () -> assertThat(secondClaimed).hasSize(1),
+                () -> assertThat(thirdClaimed).isEmpty(),
+                () -> assertThat(firstClaimed.get(0).getAttempts()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("수신자별 발송 결과를 발송 작업에 반영한다.")
+    void complete() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).recruitment();
+        Application jongmeeApplication = JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment)
+                .application();
+        Application kyunghoApplication = KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment)
+                .application();
+        outcomeEmailOutbox.saveAll(recruitment.getId());
+        outcomeEmailOutbox.claim(10);
+
+        // when
+        outcomeEmailOutbox.complete(List.of(
+                new EmailDeliveryStatus(jongmeeApplication.getId(), "JONGMEE@gmail.com", true, 1),
+                new EmailDeliveryStatus(kyunghoApplication.getId(), "KYUNGHO@gmail.com", false, 3)));
+
+        // then
+        List<OutcomeEmail> outcomeEmails = outcomeEmailRepository.findAllByRecruitmentId(recruitment.getId());
+        assertThat(outcomeEmails).extracting(OutcomeEmail::getStatus)
+                .containsExactlyInAnyOrder(OutcomeEmailStatus.SENT, OutcomeEmailStatus.FAILED);
+    }
+}
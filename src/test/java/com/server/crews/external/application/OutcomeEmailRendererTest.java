@@ -0,0 +1,56 @@
+package com.server.crews.external.application;
+
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.crews.applicant.domain.Outcome;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class OutcomeEmailRendererTest {
+    private final SpringTemplateEngine templateEngine = templateEngine();
+    private final OutcomeAnnouncement announcement = new OutcomeAnnouncement(1L, DEFAULT_TITLE, "<LIKE & LION>");
+
+    @ParameterizedTest
+    @CsvSource(value = {"종미:PASS", "<경호>:FAIL", "\"Tom\" & Jerry:PASS"}, delimiter = ':')
+    @DisplayName("미리 렌더링한 결과 메일에 이스케이프한 이름을 넣으면 템플릿 엔진으로 렌더링한 결과와 같다.")
+    void renderSameAsTemplateEngine(String name, Outcome outcome) {
+        // given
+        OutcomeEmailRenderer outcomeEmailRenderer = new OutcomeEmailRenderer(templateEngine, 10);
+        EmailRecipient recipient = new EmailRecipient(1L, "jongmee@gmail.com", name, outcome);
+        outcomeEmailRenderer.render(new EmailRecipient(2L, "kyungho@gmail.com", "경호", outcome), announcement);
+
+        // when
+        String html = outcomeEmailRenderer.render(recipient, announcement);
+
+        // then
+        assertThat(html).isEqualTo(renderWithTemplateEngine(recipient));
+    }
+
+    private String renderWithTemplateEngine(EmailRecipient recipient) {
+        Context context = new Context();
+        context.setVariables(Map.of(
+                "name", recipient.name(),
+                "recruitment", announcement.recruitmentTitle(),
+                "club", announcement.clubName()));
+        String htmlName = recipient.outcome() == Outcome.PASS ? "pass-email" : "fail-email";
+        return templateEngine.process(htmlName, context);
+    }
+
+    private SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+}
@@ -0,0 +1,127 @@
+package com.server.crews.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.crews.applicant.dto.request.EvaluationRequest;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.global.exception.CrewsErrorCode;
+import com.server.crews.global.exception.CrewsException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class IdempotentExecutorTest extends ServiceTest {
+    private static final String IDEMPOTENCY_KEY = "idempotency-key";
+    private static final String SCOPE = "evaluation:1";
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private IdempotentExecutor idempotentExecutor;
+
+    @BeforeEach
+    void setUpExecutor() {
+        idempotentExecutor = new IdempotentExecutor(idempotencyRepository, objectMapper, 60000, 60000, 10, 1000);
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 요청과 같은 키로 다시 요청하면 다시 처리하지 않고 저장된 응답을 반환한다.")
+    void replayCompletedResponse() {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+        EvaluationRequest request = new EvaluationRequest(List.of(1L, 2L));
+        idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class,
+                () -> "response" + executionCount.incrementAndGet());
+
+        // when
+        String response = idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class,
+                () -> "response" + executionCount.incrementAndGet());
+
+        // then
+        assertAll(
+                () -> assertThat(response).isEqualTo("response1"),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 본문의 요청에 사용된 키로 요청하면 예외가 발생한다.")
+    void executeWithReusedKey() {
+        // given
+        idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, new EvaluationRequest(List.of(1L)), () -> {
+        });
+
+        // when & then
+        assertThatThrownBy(() -> idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE,
+                new EvaluationRequest(List.of(2L)), () -> {
+                }))
+                .isInstanceOf(CrewsException.class)
+                .hasMessage(CrewsErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 요청하면 먼저 온 요청의 응답을 기다려 반환한다.")
+    void collapseInFlightDuplicate() throws InterruptedException {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+        EvaluationRequest request = new EvaluationRequest(List.of(1L));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<String> firstRequest = CompletableFuture.supplyAsync(() ->
+                idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class, () -> {
+                    started.countDown();
+                    await(finished);
+                    return "response" + executionCount.incrementAndGet();
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<String> duplicateRequest = CompletableFuture.supplyAsync(() ->
+                idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class,
+                        () -> "response" + executionCount.incrementAndGet()));
+        finished.countDown();
+
+        // then
+        assertAll(
+                () -> assertThat(duplicateRequest.join()).isEqualTo(firstRequest.join()),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 요청과 같은 키로 재시도하면 다시 처리한다.")
+    void retryAfterFailure() {
+        // given
+        EvaluationRequest request = new EvaluationRequest(List.of(1L));
+        assertThatThrownBy(() -> idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class, () -> {
+            throw new CrewsException(CrewsErrorCode.ALREADY_ANNOUNCED);
+        })).isInstanceOf(CrewsException.class);
+
+        // when
+        String response = idempotentExecutor.execute(IDEMPOTENCY_KEY, SCOPE, request, String.class,
+                () -> "response");
+
+        // then
+        assertThat(response).isEqualTo("response");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
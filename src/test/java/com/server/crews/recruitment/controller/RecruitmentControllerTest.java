@@ -13,6 +13,7 @@ import com.server.crews.auth.controller.AuthenticationValidator;
 import com.server.crews.environ.presentation.ControllerTest;
 import com.server.crews.environ.presentation.TestAuthArgumentResolverConfig;
 import com.server.crews.global.config.WebMvcConfiguration;
+import com.server.crews.global.idempotency.IdempotentExecutor;
 import com.server.crews.recruitment.service.RecruitmentService;
 import com.server.crews.recruitment.dto.request.QuestionSaveRequest;
 import com.server.crews.recruitment.domain.QuestionType;
@@ -43,6 +44,9 @@ class RecruitmentControllerTest extends ControllerTest {
     @MockBean
     private RecruitmentService recruitmentService;
 
+    @MockBean
+    private IdempotentExecutor idempotentExecutor;
+
 
     @Test
     @DisplayName("모집 공고를 필수 항목(제목, 마감일)만 포함하여 저장한다.")
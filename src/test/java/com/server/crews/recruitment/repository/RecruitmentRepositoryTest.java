@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.server.crews.auth.domain.Administrator;
 import com.server.crews.environ.repository.RepositoryTest;
+import com.server.crews.recruitment.domain.ClosingRecruitment;
 import com.server.crews.recruitment.domain.Recruitment;
 import com.server.crews.recruitment.domain.RecruitmentProgress;
 import jakarta.validation.ConstraintViolationException;
@@ -18,6 +19,7 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
 class RecruitmentRepositoryTest extends RepositoryTest {
     @Autowired
@@ -54,17 +56,26 @@ class RecruitmentRepositoryTest extends RepositoryTest {
     }
 
     @Test
-    @DisplayName("기준보다 이전 마감일과 모집 단계로 모집 공고 목록을 조회한다.")
-    void findByDeadlineLessThanEqualAndProgressNot() {
+    @DisplayName("기준보다 이전 마감일의 모집 중인 모집 공고를 마지막으로 조회한 id 이후부터 조회한다.")
+    void findAllToBeClosed() {
         // given
         Administrator publisher = createDefaultAdmin();
-        createDefaultRecruitment(publisher);
+        Recruitment recruitment = createDefaultRecruitment(publisher);
+        recruitment.start();
+        recruitmentRepository.save(recruitment);
 
         // when
-        List<Recruitment> recruitments = recruitmentRepository.findByDeadlineLessThanEqualAndProgressNot(
-                LocalDateTime.of(2030, 10, 5, 18, 0), RecruitmentProgress.ANNOUNCED);
+        List<ClosingRecruitment> recruitments = recruitmentRepository.findAllToBeClosed(
+                RecruitmentProgress.IN_PROGRESS, LocalDateTime.of(2030, 10, 5, 18, 0), 0L, PageRequest.of(0, 10));
+        List<ClosingRecruitment> recruitmentsAfterLastId = recruitmentRepository.findAllToBeClosed(
+                RecruitmentProgress.IN_PROGRESS, LocalDateTime.of(2030, 10, 5, 18, 0), recruitment.getId(),
+                PageRequest.of(0, 10));
 
         // then
-        assertThat(recruitments).hasSize(1);
+        assertAll(
+                () -> assertThat(recruitments).containsExactly(
+                        new ClosingRecruitment(recruitment.getId(), recruitment.getCode())),
+                () -> assertThat(recruitmentsAfterLastId).isEmpty()
+        );
     }
 }
@@ -46,7 +46,9 @@ public class ClosingRecruitmentTest {
         Administrator publisher = new TestAdmin(serviceTestEnviron).create("LIKE_LION", TEST_PASSWORD)
                 .administrator();
         Recruitment recruitment = new TestRecruitment(serviceTestEnviron)
-                .create(DEFAULT_CODE, "LIKE LION", DEFAULT_DEADLINE, publisher).recruitment();
+                .create(DEFAULT_CODE, "LIKE LION", DEFAULT_DEADLINE, publisher)
+                .start()
+                .recruitment();
 
         // when
         Thread.sleep(2000);
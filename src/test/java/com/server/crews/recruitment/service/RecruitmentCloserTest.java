@@ -0,0 +1,127 @@
+package com.server.crews.recruitment.service;
+
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DEADLINE;
+import static com.server.crews.fixture.UserFixture.TEST_PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.applicant.service.ApplicationDraftFlusher;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.environ.service.ServiceTestEnviron;
+import com.server.crews.environ.service.TestAdmin;
+import com.server.crews.environ.service.TestRecruitment;
+import com.server.crews.global.lock.DistributedLock;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import com.server.crews.recruitment.service.RecruitmentCloser.ClosingResult;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+class RecruitmentCloserTest extends ServiceTest {
+    private static final int BATCH_SIZE = 1;
+
+    @Autowired
+    private ServiceTestEnviron serviceTestEnviron;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private ApplicationDraftFlusher applicationDraftFlusher;
+
+    @Autowired
+    private DistributedLock distributedLock;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private RecruitmentCloser recruitmentCloser;
+
+    @BeforeEach
+    void setUpRecruitmentCloser() {
+        Clock clock = Clock.fixed(Instant.parse("2030-09-06T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        recruitmentCloser = new RecruitmentCloser(recruitmentRepository, applicationDraftFlusher, distributedLock,
+                eventPublisher, clock, BATCH_SIZE, 60_000);
+    }
+
+    @Test
+    @DisplayName("마감 기한이 지난 모집 중인 모집 공고만 나누어 마감하고, 다시 실행해도 결과가 같다.")
+    void closeExpiredRecruitments() {
+        // given
+        Recruitment firstRecruitment = createRecruitment("LIKE_LION", "first-code", true);
+        Recruitment secondRecruitment = createRecruitment("CREWS", "second-code", true);
+        Recruitment readyRecruitment = createRecruitment("READY_CLUB", "ready-code", false);
+
+        // when
+        ClosingResult firstResult = recruitmentCloser.closeExpiredRecruitments();
+        ClosingResult secondResult = recruitmentCloser.closeExpiredRecruitments();
+
+        // then
+        assertAll(
+                () -> assertThat(firstResult.closedCount()).isEqualTo(2),
+                () -> assertThat(secondResult.closedCount()).isZero(),
+                () -> assertThat(progressOf(firstRecruitment)).isEqualTo(RecruitmentProgress.COMPLETION),
+                () -> assertThat(progressOf(secondRecruitment)).isEqualTo(RecruitmentProgress.COMPLETION),
+                () -> assertThat(progressOf(readyRecruitment)).isEqualTo(RecruitmentProgress.READY)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 마감 작업을 실행 중이면 실행하지 않는다.")
+    void closeExpiredRecruitmentsWhileLeaseHeld() {
+        // given
+        Recruitment recruitment = createRecruitment("LIKE_LION", "first-code", true);
+        distributedLock.tryAcquire("closing_recruitments", Duration.ofMinutes(1));
+
+        // when
+        ClosingResult result = recruitmentCloser.closeExpiredRecruitments();
+
+        // then
+        assertAll(
+                () -> assertThat(result.executed()).isFalse(),
+                () -> assertThat(progressOf(recruitment)).isEqualTo(RecruitmentProgress.IN_PROGRESS)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 마감 중인 모집 공고는 마감 기한이 되어도 함께 마감하지 않는다.")
+    void closeIfDueWhileRecruitmentLeaseHeld() {
+        // given
+        Recruitment recruitment = createRecruitment("LIKE_LION", "first-code", true);
+        distributedLock.tryAcquire("closing_recruitment:" + recruitment.getId(), Duration.ofMinutes(1));
+
+        // when
+        boolean closed = recruitmentCloser.closeIfDue(recruitment.getId(), recruitment.getDeadline());
+
+        // then
+        assertAll(
+                () -> assertThat(closed).isFalse(),
+                () -> assertThat(progressOf(recruitment)).isEqualTo(RecruitmentProgress.IN_PROGRESS)
+        );
+    }
+
+    private Recruitment createRecruitment(String clubName, String code, boolean started) {
+        Administrator publisher = new TestAdmin(serviceTestEnviron).create(clubName, TEST_PASSWORD).administrator();
+        TestRecruitment testRecruitment = new TestRecruitment(serviceTestEnviron)
+                .create(code, clubName, DEFAULT_DEADLINE, publisher);
+        if (started) {
+            testRecruitment.start();
+        }
+        return testRecruitment.recruitment();
+    }
+
+    private RecruitmentProgress progressOf(Recruitment recruitment) {
+        return recruitmentRepository.findById(recruitment.getId())
+                .orElseThrow()
+                .getProgress();
+    }
+}
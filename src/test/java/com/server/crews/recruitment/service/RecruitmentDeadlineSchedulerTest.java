@@ -0,0 +1,64 @@
+package com.server.crews.recruitment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.RecruitmentProgress;
+import com.server.crews.recruitment.repository.RecruitmentRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RecruitmentDeadlineSchedulerTest extends ServiceTest {
+    @Autowired
+    private RecruitmentDeadlineScheduler recruitmentDeadlineScheduler;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    @DisplayName("모집 중인 모집 공고는 마감 기한이 되면 바로 마감한다.")
+    void closeAtDeadline() throws InterruptedException {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).start().recruitment();
+        recruitment.updateDeadline(LocalDateTime.now(clock).plusSeconds(1));
+        recruitmentRepository.save(recruitment);
+
+        // when
+        recruitmentDeadlineScheduler.reschedule(recruitment.getId());
+        Thread.sleep(2000);
+
+        // then
+        Recruitment closedRecruitment = recruitmentRepository.findById(recruitment.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(closedRecruitment.getProgress()).isEqualTo(RecruitmentProgress.COMPLETION),
+                () -> assertThat(recruitmentDeadlineScheduler.isScheduled(recruitment.getId())).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("모집 중이 아닌 모집 공고의 마감 예약은 취소한다.")
+    void rescheduleNotInProgressRecruitment() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).start().recruitment();
+        recruitmentDeadlineScheduler.reschedule(recruitment.getId());
+        recruitment.close();
+        recruitmentRepository.save(recruitment);
+
+        // when
+        recruitmentDeadlineScheduler.reschedule(recruitment.getId());
+
+        // then
+        assertThat(recruitmentDeadlineScheduler.isScheduled(recruitment.getId())).isFalse();
+    }
+}
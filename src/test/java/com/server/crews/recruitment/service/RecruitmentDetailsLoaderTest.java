@@ -0,0 +1,74 @@
+package com.server.crews.recruitment.service;
+
+import static com.server.crews.fixture.QuestionFixture.NARRATIVE_QUESTION;
+import static com.server.crews.fixture.QuestionFixture.SELECTIVE_QUESTION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.environ.service.TestRecruitment;
+import com.server.crews.recruitment.domain.NarrativeQuestion;
+import com.server.crews.recruitment.domain.Recruitment;
+import com.server.crews.recruitment.domain.SelectiveQuestion;
+import com.server.crews.recruitment.mapper.RecruitmentMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RecruitmentDetailsLoaderTest extends ServiceTest {
+    private static final long FORM_LOADING_QUERY_COUNT = 4;
+
+    @Autowired
+    private RecruitmentDetailsLoader recruitmentDetailsLoader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "3, 2", "10, 5"})
+    @DisplayName("지원서 양식의 크기와 관계없이 일정한 수의 쿼리로 섹션, 문항, 선택지를 모두 조회한다.")
+    void findWithSectionsByCodeWithConstantQueryCount(int sectionCount, int questionCountPerSection) {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        TestRecruitment testRecruitment = LIKE_LION_RECRUITMENT(publisher);
+        IntStream.range(0, sectionCount)
+                .forEach(sectionNumber -> testRecruitment.addSection("섹션" + sectionNumber,
+                        narrativeQuestions(questionCountPerSection), selectiveQuestions(questionCountPerSection)));
+        Recruitment savedRecruitment = testRecruitment.start().recruitment();
+        statistics.clear();
+
+        // when
+        Recruitment recruitment = recruitmentDetailsLoader.findWithSectionsByCode(savedRecruitment.getCode());
+        RecruitmentMapper.recruitmentToRecruitmentDetailsResponse(recruitment);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(FORM_LOADING_QUERY_COUNT);
+    }
+
+    private List<NarrativeQuestion> narrativeQuestions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> NARRATIVE_QUESTION())
+                .toList();
+    }
+
+    private List<SelectiveQuestion> selectiveQuestions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> SELECTIVE_QUESTION())
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.server.crews.recruitment.service;
+
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_CODE;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DEADLINE;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_DESCRIPTION;
+import static com.server.crews.fixture.RecruitmentFixture.DEFAULT_TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.server.crews.global.cache.CacheStats;
+import com.server.crews.recruitment.domain.Recruitment;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecruitmentFormCacheTest {
+    private final Clock clock = Clock.fixed(Instant.parse("2030-09-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("모집이 시작된 지원서 양식은 최초 조회 이후 캐시에서 조회한다.")
+    void getOrLoadStartedRecruitment() {
+        // given
+        RecruitmentFormCache recruitmentFormCache = new RecruitmentFormCache(10, 60_000, clock);
+        Recruitment recruitment = startedRecruitment(1L);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        recruitmentFormCache.getOrLoad("code:" + DEFAULT_CODE, () -> countLoad(loadCount, recruitment));
+        Recruitment cachedRecruitment = recruitmentFormCache.getOrLoad("code:" + DEFAULT_CODE,
+                () -> countLoad(loadCount, recruitment));
+
+        // then
+        CacheStats stats = recruitmentFormCache.stats();
+        assertAll(
+                () -> assertThat(cachedRecruitment).isSameAs(recruitment),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(stats.hitCount()).isEqualTo(1),
+                () -> assertThat(stats.missCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("작성 중인 지원서 양식은 캐시하지 않는다.")
+    void getOrLoadReadyRecruitment() {
+        // given
+        RecruitmentFormCache recruitmentFormCache = new RecruitmentFormCache(10, 60_000, clock);
+        Recruitment recruitment = new Recruitment(1L, DEFAULT_CODE, DEFAULT_TITLE, DEFAULT_DESCRIPTION,
+                DEFAULT_DEADLINE, null, List.of());
+
+        // when
+        recruitmentFormCache.getOrLoad("code:" + DEFAULT_CODE, () -> recruitment);
+
+        // then
+        assertThat(recruitmentFormCache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("모집 공고가 변경되면 해당 모집 공고의 모든 캐시 항목을 무효화한다.")
+    void invalidate() {
+        // given
+        RecruitmentFormCache recruitmentFormCache = new RecruitmentFormCache(10, 60_000, clock);
+        Recruitment recruitment = startedRecruitment(1L);
+        Recruitment otherRecruitment = startedRecruitment(2L);
+        recruitmentFormCache.getOrLoad("code:" + DEFAULT_CODE, () -> recruitment);
+        recruitmentFormCache.getOrLoad("title:" + DEFAULT_TITLE, () -> recruitment);
+        recruitmentFormCache.getOrLoad("code:OTHER_CODE", () -> otherRecruitment);
+
+        // when
+        recruitmentFormCache.invalidate(recruitment.getId());
+
+        // then
+        assertThat(recruitmentFormCache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화된 지원서 양식은 캐시에 저장하지 않는다.")
+    void invalidateWhileLoading() {
+        // given
+        RecruitmentFormCache recruitmentFormCache = new RecruitmentFormCache(10, 60_000, clock);
+        Recruitment recruitment = startedRecruitment(1L);
+
+        // when
+        recruitmentFormCache.getOrLoad("code:" + DEFAULT_CODE, () -> {
+            recruitmentFormCache.invalidate(recruitment.getId());
+            return recruitment;
+        });
+
+        // then
+        assertThat(recruitmentFormCache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 양식을 제거한다.")
+    void evictLeastRecentlyUsed() {
+        // given
+        RecruitmentFormCache recruitmentFormCache = new RecruitmentFormCache(1, 60_000, clock);
+
+        // when
+        recruitmentFormCache.getOrLoad("code:FIRST", () -> startedRecruitment(1L));
+        recruitmentFormCache.getOrLoad("code:SECOND", () -> startedRecruitment(2L));
+
+        // then
+        CacheStats stats = recruitmentFormCache.stats();
+        assertAll(
+                () -> assertThat(stats.size()).isEqualTo(1),
+                () -> assertThat(stats.evictionCount()).isEqualTo(1)
+        );
+    }
+
+    private Recruitment startedRecruitment(Long id) {
+        Recruitment recruitment = new Recruitment(id, DEFAULT_CODE, DEFAULT_TITLE, DEFAULT_DESCRIPTION,
+                DEFAULT_DEADLINE, null, List.of());
+        recruitment.start();
+        return recruitment;
+    }
+
+    private Recruitment countLoad(AtomicInteger loadCount, Recruitment recruitment) {
+        loadCount.incrementAndGet();
+        return recruitment;
+    }
+}
@@ -0,0 +1,119 @@
+package com.server.crews.recruitment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.server.crews.applicant.event.ApplicationCreatedEvent;
+import com.server.crews.auth.domain.Administrator;
+import com.server.crews.environ.service.ServiceTest;
+import com.server.crews.recruitment.domain.Recruitment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class RecruitmentStateStreamTest extends ServiceTest {
+    @Autowired
+    private RecruitmentStateStream recruitmentStateStream;
+
+    @Test
+    @DisplayName("여러 번 변경되어도 한 번의 전송 주기에는 최신 모집 상태를 한 번만 전송한다.")
+    void flushCoalescedChanges() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).start().recruitment();
+        JONGMEE_APPLICATION(JONGMEE_APPLICANT().applicant(), recruitment);
+        KYUNGHO_APPLICATION(KYUNGHO_APPLICANT().applicant(), recruitment);
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        recruitmentStateStream.register(recruitment.getId(), emitter);
+
+        // when
+        recruitmentStateStream.markChanged(new ApplicationCreatedEvent(recruitment.getId()));
+        recruitmentStateStream.markChanged(new ApplicationCreatedEvent(recruitment.getId()));
+        recruitmentStateStream.flush();
+
+        // then
+        await().atMost(Duration.ofSeconds(1)).until(() -> emitter.sentEventCount() == 1);
+        assertThat(emitter.sentEventCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 중인 연결에는 그동안 쌓인 변경 중 최신 모집 상태만 이어서 전송한다.")
+    void sendLatestStateAfterSlowSend() throws InterruptedException {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).start().recruitment();
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch sendReleased = new CountDownLatch(1);
+        RecordingSseEmitter emitter = new RecordingSseEmitter(sendStarted, sendReleased);
+        recruitmentStateStream.register(recruitment.getId(), emitter);
+        recruitmentStateStream.markChanged(new ApplicationCreatedEvent(recruitment.getId()));
+        recruitmentStateStream.flush();
+        sendStarted.await(1, TimeUnit.SECONDS);
+
+        // when
+        for (int count = 0; count < 3; count++) {
+            recruitmentStateStream.markChanged(new ApplicationCreatedEvent(recruitment.getId()));
+            recruitmentStateStream.flush();
+        }
+        sendReleased.countDown();
+
+        // then
+        await().atMost(Duration.ofSeconds(1)).until(() -> emitter.sentEventCount() == 2);
+        assertThat(emitter.sentEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구독 중인 연결이 없는 모집 공고의 변경은 전송하지 않는다.")
+    void flushWithoutSubscription() {
+        // given
+        Administrator publisher = LIKE_LION_ADMIN().administrator();
+        Recruitment recruitment = LIKE_LION_RECRUITMENT(publisher).start().recruitment();
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        recruitmentStateStream.register(recruitment.getId() + 1, emitter);
+
+        // when
+        recruitmentStateStream.markChanged(new ApplicationCreatedEvent(recruitment.getId()));
+        recruitmentStateStream.flush();
+
+        // then
+        assertThat(emitter.sentEventCount()).isZero();
+    }
+
+    private static class RecordingSseEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sentEvents = new ArrayList<>();
+        private final CountDownLatch sendStarted;
+        private final CountDownLatch sendReleased;
+
+        RecordingSseEmitter() {
+            this(new CountDownLatch(0), new CountDownLatch(0));
+        }
+
+        RecordingSseEmitter(CountDownLatch sendStarted, CountDownLatch sendReleased) {
+            this.sendStarted = sendStarted;
+            this.sendReleased = sendReleased;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sendStarted.countDown();
+            try {
+                sendReleased.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                sentEvents.add(builder);
+            }
+        }
+
+        synchronized int sentEventCount() {
+            return sentEvents.size();
+        }
+    }
+}